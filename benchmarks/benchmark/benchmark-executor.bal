@@ -3,6 +3,13 @@ import ballerina/time;
 
 public function main(string... args) {
 
+    // Lists the registered benchmark functions, which the executor script runs one by one.
+    if (lengthof args == 1 && args[0] == "list") {
+        addFunctions();
+        listFunctions();
+        return;
+    }
+
     if (lengthof args < 3) {
         io:println("ERROR: Please specify the number of warm-up iterations and benchmark iterations.");
         return;
@@ -1,14 +1,28 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkscheduler;
+import benchmarktable;
+import benchmarkquery;
 import ballerina/io;
 
 map<function()> functions;
+// The print benchmarks write to the standard output that the results are read from, so they are not listed.
+map<function()> printFunctions;
 
 function getFunction(string name) returns (function()) {
+    if (printFunctions.hasKey(name)) {
+        return printFunctions[name];
+    }
     return functions[name];
 }
 
+function listFunctions() {
+    foreach var name in functions.keys() {
+        io:println(name);
+    }
+}
+
 function addFunctions() {
     addJSONFunctions();
     addIntFunctions();
@@ -17,6 +31,11 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addSchedulerFunctions();
+    addTableFunctions();
+    addQueryFunctions();
+    addRecordFunctions();
+    addObjectFunctions();
 }
 
 function addJSONFunctions() {
@@ -48,6 +67,11 @@ function addJSONFunctions() {
     functions["benchmarkConstrainedJsonWithFunctions"] = benchmarktypes:benchmarkConstrainedJsonWithFunctions;
     functions["benchmarkConstrainedJsonWithFunctionGetKeys"] = benchmarktypes:
     benchmarkConstrainedJsonWithFunctionGetKeys;
+    functions["benchmarkJsonParseString"] = benchmarktypes:benchmarkJsonParseString;
+    functions["benchmarkJsonParseBytes"] = benchmarktypes:benchmarkJsonParseBytes;
+    functions["benchmarkJsonParseStringWithType"] = benchmarktypes:benchmarkJsonParseStringWithType;
+    functions["benchmarkToJsonStringLarge"] = benchmarktypes:benchmarkToJsonStringLarge;
+    functions["benchmarkSerializeJsonToStream"] = benchmarktypes:benchmarkSerializeJsonToStream;
 }
 
 function addIntFunctions() {
@@ -59,11 +83,13 @@ function addIntFunctions() {
     functions["benchmarkIntegerTypesSubtraction"] = benchmarktypes:benchmarkIntegerTypesSubtraction;
     functions["benchmarkIntegerTypesMultiplication"] = benchmarktypes:benchmarkIntegerTypesMultiplication;
     functions["benchmarkIntegerTypesDivision"] = benchmarktypes:benchmarkIntegerTypesDivision;
+    functions["benchmarkAnyIntAccumulation"] = benchmarktypes:benchmarkAnyIntAccumulation;
+    functions["benchmarkIntRecursiveCalls"] = benchmarktypes:benchmarkIntRecursiveCalls;
 }
 
 function addPrintFunctions() {
-    functions["benchmarkPrintAnyVal"] = benchmarktypes:benchmarkPrintAnyVal;
-    functions["benchmarkPrintlnAnyVal"] = benchmarktypes:benchmarkPrintlnAnyVal;
+    printFunctions["benchmarkPrintAnyVal"] = benchmarktypes:benchmarkPrintAnyVal;
+    printFunctions["benchmarkPrintlnAnyVal"] = benchmarktypes:benchmarkPrintlnAnyVal;
 }
 
 function addFloatFunctions() {
@@ -75,6 +101,8 @@ function addFloatFunctions() {
     functions["benchmarkFloatSubtractionWithReturn"] = benchmarktypes:benchmarkFloatSubtractionWithReturn;
     functions["benchmarkFloatDivision"] = benchmarktypes:benchmarkFloatDivision;
     functions["benchmarkFloatDivisionWithReturn"] = benchmarktypes:benchmarkFloatDivisionWithReturn;
+    functions["benchmarkFloatHelperCallsInLoop"] = benchmarktypes:benchmarkFloatHelperCallsInLoop;
+    functions["benchmarkAnyFloatAccumulation"] = benchmarktypes:benchmarkAnyFloatAccumulation;
 }
 
 function addTimeFunctions() {
@@ -139,4 +167,56 @@ function addStringFunctions() {
     functions["benchmarkStringLength"] = benchmarktypes:benchmarkStringLength;
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
+    functions["benchmarkStringConcatLoop"] = benchmarktypes:benchmarkStringConcatLoop;
+    functions["benchmarkNonBmpStringConcatLoop"] = benchmarktypes:benchmarkNonBmpStringConcatLoop;
+}
+
+function addSchedulerFunctions() {
+    functions["benchmarkStrandFanOutFanIn"] = benchmarkscheduler:benchmarkStrandFanOutFanIn;
+    functions["benchmarkStrandNestedFanOut"] = benchmarkscheduler:benchmarkStrandNestedFanOut;
+    functions["benchmarkYieldResumeFrameDepth8"] = benchmarkscheduler:benchmarkYieldResumeFrameDepth8;
+    functions["benchmarkYieldResumeFrameDepth32"] = benchmarkscheduler:benchmarkYieldResumeFrameDepth32;
+    functions["benchmarkYieldResumeFrameDepth128"] = benchmarkscheduler:benchmarkYieldResumeFrameDepth128;
+    functions["benchmarkLockContention"] = benchmarkscheduler:benchmarkLockContention;
+    functions["benchmarkUncontendedLock"] = benchmarkscheduler:benchmarkUncontendedLock;
+}
+
+function addTableFunctions() {
+    functions["benchmarkKeyedTableAdd"] = benchmarktable:benchmarkKeyedTableAdd;
+    functions["benchmarkKeylessTableAdd"] = benchmarktable:benchmarkKeylessTableAdd;
+    functions["benchmarkKeyedTableGet"] = benchmarktable:benchmarkKeyedTableGet;
+    functions["benchmarkKeyedTableIterate"] = benchmarktable:benchmarkKeyedTableIterate;
+    functions["benchmarkKeyedTableRemoveAndAdd"] = benchmarktable:benchmarkKeyedTableRemoveAndAdd;
+    functions["benchmarkKeyedTableQueryWhereField"] = benchmarktable:benchmarkKeyedTableQueryWhereField;
+    functions["benchmarkLargeTableIterate"] = benchmarktable:benchmarkLargeTableIterate;
+    functions["benchmarkLargeTableQueryIterate"] = benchmarktable:benchmarkLargeTableQueryIterate;
+    functions["benchmarkMapIterate"] = benchmarktable:benchmarkMapIterate;
+    functions["benchmarkTableJoin"] = benchmarktable:benchmarkTableJoin;
+    functions["benchmarkTableOuterJoinOnDecimal"] = benchmarktable:benchmarkTableOuterJoinOnDecimal;
+    functions["benchmarkLargeTableOrderByLimit"] = benchmarktable:benchmarkLargeTableOrderByLimit;
+    functions["benchmarkLargeTableOrderBy"] = benchmarktable:benchmarkLargeTableOrderBy;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkQuerySelect"] = benchmarkquery:benchmarkQuerySelect;
+    functions["benchmarkQueryWhereSelect"] = benchmarkquery:benchmarkQueryWhereSelect;
+    functions["benchmarkQueryLetWhereSelect"] = benchmarkquery:benchmarkQueryLetWhereSelect;
+    functions["benchmarkQuerySelectiveWhere"] = benchmarkquery:benchmarkQuerySelectiveWhere;
+    functions["benchmarkQueryNestedFrom"] = benchmarkquery:benchmarkQueryNestedFrom;
+    functions["benchmarkQueryDo"] = benchmarkquery:benchmarkQueryDo;
+    functions["benchmarkQueryToStream"] = benchmarkquery:benchmarkQueryToStream;
+    functions["benchmarkQueryCollectSum"] = benchmarkquery:benchmarkQueryCollectSum;
+    functions["benchmarkIsolatedQueryCpuHeavy"] = benchmarkquery:benchmarkIsolatedQueryCpuHeavy;
+}
+
+function addRecordFunctions() {
+    functions["benchmarkRecordFieldRead"] = benchmarktypes:benchmarkRecordFieldRead;
+    functions["benchmarkRecordFieldWrite"] = benchmarktypes:benchmarkRecordFieldWrite;
+    functions["benchmarkRecordFieldReadWrite"] = benchmarktypes:benchmarkRecordFieldReadWrite;
+}
+
+function addObjectFunctions() {
+    functions["benchmarkObjectMethodCall"] = benchmarktypes:benchmarkObjectMethodCall;
+    functions["benchmarkObjectMethodCallWithDefaultableArgs"] = benchmarktypes:benchmarkObjectMethodCallWithDefaultableArgs;
+    functions["benchmarkObjectGetterCall"] = benchmarktypes:benchmarkObjectGetterCall;
 }
@@ -0,0 +1,96 @@
+const int QUERY_ROWS = 100000;
+
+type Order record {|
+    int id;
+    string customer;
+    decimal amount;
+    int quantity;
+|};
+
+type OrderSummary record {|
+    int id;
+    decimal total;
+|};
+
+final Order[] orders = from int i in 0 ..< QUERY_ROWS
+    select {id: i, customer: "customer " + (i % 100).toString(), amount: 25.5, quantity: i % 10};
+
+final int[] & readonly numbers = (from int i in 0 ..< QUERY_ROWS select i).cloneReadOnly();
+
+public function benchmarkQuerySelect() {
+    int[] ids = from Order o in orders
+        select o.id;
+}
+
+public function benchmarkQueryWhereSelect() {
+    int[] ids = from Order o in orders
+        where o.quantity > 5
+        select o.id;
+}
+
+public function benchmarkQueryLetWhereSelect() {
+    OrderSummary[] summaries = from Order o in orders
+        let decimal total = o.amount * o.quantity
+        where total > 100
+        let int doubled = o.id * 2
+        select {id: doubled, total: total};
+}
+
+public function benchmarkQuerySelectiveWhere() {
+    int[] ids = from int n in numbers
+        where n % 1000 == 0
+        select n;
+}
+
+public function benchmarkQueryNestedFrom() {
+    int[] products = from int i in 0 ..< 300
+        from int j in 0 ..< 300
+        where i != j
+        select i * j;
+}
+
+public function benchmarkQueryDo() {
+    int total = 0;
+    from Order o in orders
+        where o.quantity != 0
+        do {
+            total += o.quantity;
+        };
+}
+
+public function benchmarkQueryToStream() {
+    stream<int> ids = stream from Order o in orders
+        where o.quantity > 5
+        select o.id;
+    int count = 0;
+    record {|int value;|}? next = ids.next();
+    while next is record {|int value;|} {
+        count += 1;
+        next = ids.next();
+    }
+}
+
+public function benchmarkQueryCollectSum() {
+    int total = 0;
+    from int n in numbers
+        let int square = n * n
+        where square % 3 == 0
+        do {
+            total += square % 7;
+        };
+}
+
+// Evaluated in chunks concurrently when BALLERINA_QUERY_PARALLELISM is set to more than 1.
+public isolated function benchmarkIsolatedQueryCpuHeavy() {
+    int[] hashes = from int n in numbers
+        where n % 2 == 0
+        select hash(n);
+}
+
+isolated function hash(int n) returns int {
+    int h = n;
+    foreach int i in 0 ..< 200 {
+        h = (h * 31 + i) % 1000000007;
+    }
+    return h;
+}
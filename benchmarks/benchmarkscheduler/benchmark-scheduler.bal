@@ -0,0 +1,92 @@
+const int FAN_OUT_STRANDS = 5000;
+
+public function benchmarkStrandFanOutFanIn() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< FAN_OUT_STRANDS {
+        futures.push(start square(i));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += checkpanic wait f;
+    }
+}
+
+public function benchmarkStrandNestedFanOut() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< FAN_OUT_STRANDS / 50 {
+        futures.push(start fanOut(50));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += checkpanic wait f;
+    }
+}
+
+function fanOut(int count) returns int {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< count {
+        futures.push(start square(i));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += checkpanic wait f;
+    }
+    return sum;
+}
+
+function square(int i) returns int {
+    return i * i;
+}
+
+public function benchmarkYieldResumeFrameDepth8() {
+    _ = yieldAtDepth(8);
+}
+
+public function benchmarkYieldResumeFrameDepth32() {
+    _ = yieldAtDepth(32);
+}
+
+public function benchmarkYieldResumeFrameDepth128() {
+    _ = yieldAtDepth(128);
+}
+
+// Waiting on a future at the bottom of the call chain yields the strand, saving and restoring one frame per
+// function in the chain.
+function yieldAtDepth(int depth) returns int {
+    if depth == 0 {
+        future<int> f = start square(depth);
+        return checkpanic wait f;
+    }
+    return yieldAtDepth(depth - 1) + 1;
+}
+
+const int LOCK_STRANDS = 64;
+const int LOCK_ITERATIONS = 1000;
+
+int lockedCounter = 0;
+
+public function benchmarkLockContention() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< LOCK_STRANDS {
+        futures.push(@strand {thread: "any"} start incrementLockedCounter(LOCK_ITERATIONS));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += checkpanic wait f;
+    }
+}
+
+public function benchmarkUncontendedLock() {
+    _ = incrementLockedCounter(LOCK_STRANDS * LOCK_ITERATIONS);
+}
+
+function incrementLockedCounter(int count) returns int {
+    int value = 0;
+    foreach int i in 0 ..< count {
+        lock {
+            lockedCounter += 1;
+            value = lockedCounter;
+        }
+    }
+    return value;
+}
@@ -0,0 +1,144 @@
+const int TABLE_ROWS = 10000;
+
+type Employee record {|
+    readonly int id;
+    string name;
+    decimal salary;
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+final EmployeeTable employees = table key(id) from int i in 0 ..< TABLE_ROWS
+    select {id: i, name: "employee", salary: 1000};
+
+public function benchmarkKeyedTableAdd() {
+    EmployeeTable tbl = table [];
+    foreach int i in 0 ..< TABLE_ROWS {
+        tbl.add({id: i, name: "employee", salary: 1000});
+    }
+}
+
+public function benchmarkKeylessTableAdd() {
+    table<Employee> tbl = table [];
+    foreach int i in 0 ..< TABLE_ROWS {
+        tbl.add({id: i, name: "employee", salary: 1000});
+    }
+}
+
+public function benchmarkKeyedTableGet() {
+    decimal total = 0;
+    foreach int i in 0 ..< TABLE_ROWS {
+        total += employees.get(i).salary;
+    }
+}
+
+public function benchmarkKeyedTableIterate() {
+    decimal total = 0;
+    foreach Employee employee in employees {
+        total += employee.salary;
+    }
+}
+
+public function benchmarkKeyedTableRemoveAndAdd() {
+    EmployeeTable tbl = table [];
+    foreach int i in 0 ..< TABLE_ROWS {
+        tbl.add({id: i, name: "employee", salary: 1000});
+        if i % 2 == 1 {
+            _ = tbl.remove(i - 1);
+        }
+    }
+}
+
+public function benchmarkKeyedTableQueryWhereField() {
+    foreach int i in 0 ..< 100 {
+        int id = i * 100;
+        string[] names = from Employee employee in employees
+            where employee.id == id
+            select employee.name;
+    }
+}
+
+const int LARGE_TABLE_ROWS = 1000000;
+
+// Filled on the first run, so that the iteration benchmarks do not measure building the table.
+table<Employee> largeEmployees = table [];
+
+function getLargeEmployees() returns table<Employee> {
+    if largeEmployees.length() == 0 {
+        foreach int i in 0 ..< LARGE_TABLE_ROWS {
+            largeEmployees.add({id: i, name: "employee", salary: 1000});
+        }
+    }
+    return largeEmployees;
+}
+
+public function benchmarkLargeTableIterate() {
+    table<Employee> tbl = getLargeEmployees();
+    decimal total = 0;
+    foreach Employee employee in tbl {
+        total += employee.salary;
+    }
+}
+
+public function benchmarkLargeTableQueryIterate() {
+    table<Employee> tbl = getLargeEmployees();
+    decimal total = 0;
+    from Employee employee in tbl
+    do {
+        total += employee.salary;
+    };
+}
+
+public function benchmarkLargeTableOrderByLimit() {
+    table<Employee> tbl = getLargeEmployees();
+    int[] ids = from Employee employee in tbl
+        order by employee.id descending
+        limit 10
+        select employee.id;
+}
+
+public function benchmarkLargeTableOrderBy() {
+    table<Employee> tbl = getLargeEmployees();
+    int[] ids = from Employee employee in tbl
+        order by employee.id descending
+        select employee.id;
+}
+
+final map<int> salaries = checkpanic map from int i in 0 ..< TABLE_ROWS
+    select [i.toString(), i];
+
+public function benchmarkMapIterate() {
+    int total = 0;
+    foreach int salary in salaries {
+        total += salary;
+    }
+}
+
+type Salary record {|
+    readonly int employeeId;
+    decimal amount;
+|};
+
+final table<Salary> employeeSalaries = table [];
+
+function getEmployeeSalaries() returns table<Salary> {
+    if employeeSalaries.length() == 0 {
+        foreach int i in 0 ..< TABLE_ROWS {
+            employeeSalaries.add({employeeId: i, amount: 1000});
+        }
+    }
+    return employeeSalaries;
+}
+
+public function benchmarkTableJoin() {
+    decimal[] amounts = from Employee employee in employees
+        join Salary salary in getEmployeeSalaries() on employee.id equals salary.employeeId
+        select salary.amount;
+}
+
+public function benchmarkTableOuterJoinOnDecimal() {
+    decimal[] amounts = from Employee employee in employees
+        outer join Salary salary in getEmployeeSalaries() on employee.salary equals salary.amount
+        limit 100
+        select salary.amount;
+}
@@ -31,3 +31,17 @@ function jsonReturnFunction() returns (json) {
     return val;
 }
 
+
+public function benchmarkAnyIntAccumulation() {
+    any total = 0;
+    foreach int i in 0 ..< 1000 {
+        total = <int>total + i;
+    }
+}
+
+public function benchmarkAnyFloatAccumulation() {
+    any total = 0.0;
+    foreach int i in 0 ..< 1000 {
+        total = <float>total + 0.5;
+    }
+}
@@ -62,3 +62,18 @@ function floatDivision() returns (float) {
     return a / b;
 }
 
+
+public function benchmarkFloatHelperCallsInLoop() {
+    float total = 0.0;
+    foreach int i in 0 ..< 1000 {
+        total = maxOf(total, square(<float>i) - total);
+    }
+}
+
+function square(float x) returns float {
+    return x * x;
+}
+
+function maxOf(float a, float b) returns float {
+    return a > b ? a : b;
+}
@@ -54,3 +54,14 @@ public function benchmarkIntegerTypesDivision() {
     int e = (a / b) / (c / d);
 }
 
+
+public function benchmarkIntRecursiveCalls() {
+    int result = fibonacci(15);
+}
+
+function fibonacci(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
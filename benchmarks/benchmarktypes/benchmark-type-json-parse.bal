@@ -0,0 +1,53 @@
+import ballerina/jballerina.java;
+
+const int JSON_PARSE_ITEMS = 40000;
+
+string largeJsonString = "";
+byte[] largeJsonBytes = [];
+
+function getLargeJsonString() returns string {
+    if largeJsonString.length() == 0 {
+        json[] items = [];
+        foreach int i in 0 ..< JSON_PARSE_ITEMS {
+            items.push({id: i, name: "item " + i.toString(), price: 10.5, tags: ["new", "sale"], available: true});
+        }
+        largeJsonString = items.toJsonString();
+        largeJsonBytes = largeJsonString.toBytes();
+    }
+    return largeJsonString;
+}
+
+// Parses a document of a few megabytes from a string, using the char based parser.
+public function benchmarkJsonParseString() {
+    json|error result = getLargeJsonString().fromJsonString();
+}
+
+// Parses the same document from its UTF-8 bytes, using the byte based parser.
+public function benchmarkJsonParseBytes() {
+    _ = getLargeJsonString();
+    json result = parseJsonStream(newByteArrayInputStream(largeJsonBytes), java:fromString("UTF-8"));
+}
+
+type JsonParseItem record {|
+    int id;
+    string name;
+    decimal price;
+    string[] tags;
+    boolean available;
+|};
+
+// Parses the same document from a string straight into records.
+public function benchmarkJsonParseStringWithType() {
+    JsonParseItem[]|error result = getLargeJsonString().fromJsonStringWithType();
+}
+
+function newByteArrayInputStream(byte[] bytes) returns handle = @java:Constructor {
+    'class: "java.io.ByteArrayInputStream",
+    paramTypes: [{'class: "byte", dimensions: 1}]
+} external;
+
+function parseJsonStream(handle inputStream, handle charsetName) returns json = @java:Method {
+    'class: "io.ballerina.runtime.api.utils.JsonUtils",
+    name: "parse",
+    paramTypes: ["java.io.InputStream", "java.lang.String"]
+} external;
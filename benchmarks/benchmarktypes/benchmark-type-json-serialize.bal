@@ -0,0 +1,43 @@
+import ballerina/jballerina.java;
+
+const int JSON_SERIALIZE_ITEMS = 40000;
+
+type JsonSerializeItem record {|
+    int id;
+    string name;
+    decimal price;
+    float[] ratings;
+    string[] tags;
+    boolean available;
+|};
+
+JsonSerializeItem[] largeResponseBody = [];
+
+function getLargeResponseBody() returns JsonSerializeItem[] {
+    if largeResponseBody.length() == 0 {
+        foreach int i in 0 ..< JSON_SERIALIZE_ITEMS {
+            largeResponseBody.push({id: i, name: "item " + i.toString(), price: 10.5, ratings: [4.5, 3.0],
+                tags: ["new", "sale"], available: true});
+        }
+    }
+    return largeResponseBody;
+}
+
+// Serializes a response body of a few megabytes to a string.
+public function benchmarkToJsonStringLarge() {
+    string result = getLargeResponseBody().toJsonString();
+}
+
+// Serializes the same response body straight to an output stream.
+public function benchmarkSerializeJsonToStream() {
+    serializeAnydata(getLargeResponseBody(), newByteArrayOutputStream());
+}
+
+function newByteArrayOutputStream() returns handle = @java:Constructor {
+    'class: "java.io.ByteArrayOutputStream"
+} external;
+
+function serializeAnydata(anydata value, handle outputStream) = @java:Method {
+    'class: "io.ballerina.runtime.api.utils.JsonUtils",
+    paramTypes: ["java.lang.Object", "java.io.OutputStream"]
+} external;
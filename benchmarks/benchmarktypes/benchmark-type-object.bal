@@ -0,0 +1,46 @@
+const int OBJECT_ITERATIONS = 10000;
+
+class Account {
+    private int balance = 0;
+    private int transactions = 0;
+
+    function deposit(int amount) returns int {
+        self.balance += amount;
+        self.transactions += 1;
+        return self.balance;
+    }
+
+    function interest(float rate, int months = 12) returns float {
+        return <float>self.balance * rate * <float>months / 12;
+    }
+
+    function getBalance() returns int {
+        return self.balance;
+    }
+}
+
+public function benchmarkObjectMethodCall() {
+    Account account = new;
+    foreach int i in 0 ..< OBJECT_ITERATIONS {
+        _ = account.deposit(i % 10);
+    }
+}
+
+public function benchmarkObjectMethodCallWithDefaultableArgs() {
+    Account account = new;
+    _ = account.deposit(1000);
+    float total = 0;
+    foreach int i in 0 ..< OBJECT_ITERATIONS {
+        total += account.interest(0.05);
+        total += account.interest(0.05, i % 12);
+    }
+}
+
+public function benchmarkObjectGetterCall() {
+    Account account = new;
+    _ = account.deposit(10);
+    int total = 0;
+    foreach int i in 0 ..< OBJECT_ITERATIONS {
+        total += account.getBalance();
+    }
+}
@@ -0,0 +1,37 @@
+const int RECORD_ITERATIONS = 10000;
+
+type Order record {|
+    int id;
+    int quantity;
+    float price;
+    string customer;
+    string note?;
+|};
+
+public function benchmarkRecordFieldRead() {
+    Order 'order = {id: 1, quantity: 3, price: 2.5, customer: "Anne", note: "fragile"};
+    float total = 0;
+    int length = 0;
+    foreach int i in 0 ..< RECORD_ITERATIONS {
+        total += 'order.price * <float>'order.quantity;
+        length += 'order.customer.length() + ('order?.note ?: "").length();
+    }
+}
+
+public function benchmarkRecordFieldWrite() {
+    Order 'order = {id: 1, quantity: 0, price: 0, customer: ""};
+    foreach int i in 0 ..< RECORD_ITERATIONS {
+        'order.id = i;
+        'order.quantity = i % 7;
+        'order.price = <float>i / 2;
+        'order.note = "updated";
+    }
+}
+
+public function benchmarkRecordFieldReadWrite() {
+    Order 'order = {id: 1, quantity: 0, price: 1.5, customer: "Anne"};
+    foreach int i in 0 ..< RECORD_ITERATIONS {
+        'order.quantity += 1;
+        'order.price = 'order.price + 0.5;
+    }
+}
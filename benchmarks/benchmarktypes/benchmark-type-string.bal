@@ -122,3 +122,20 @@ public function benchmarkStringSplit() {
     string split = "test";
     string[] splittedString = str.split(split);
 }
+
+const int ONE_MB = 1048576;
+const string CHUNK = "The quick brown fox jumps over the lazy dog, again and again... ";
+
+public function benchmarkStringConcatLoop() {
+    string payload = "";
+    while payload.length() < ONE_MB {
+        payload += CHUNK;
+    }
+}
+
+public function benchmarkNonBmpStringConcatLoop() {
+    string payload = "";
+    while payload.length() < ONE_MB {
+        payload += "😀 " + CHUNK;
+    }
+}
@@ -59,6 +59,14 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_MIN_POOL_SIZE_ENV_VAR = "BALLERINA_MIN_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String SCHEDULER_MODE_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_STRAND_EXECUTOR_ENV_VAR = "BALLERINA_STRAND_EXECUTOR";
+    public static final String STRAND_EXECUTOR_VIRTUAL = "virtual";
+    public static final String BALLERINA_STRAND_METRICS_ENV_VAR = "BALLERINA_STRAND_METRICS";
+    public static final String BALLERINA_QUERY_PARALLELISM_ENV_VAR = "BALLERINA_QUERY_PARALLELISM";
+    public static final String BALLERINA_QUERY_PARALLELISM_PROPERTY = "ballerina.query.parallelism";
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
 
@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonSerializer;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.io.IOException;
@@ -258,6 +259,24 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Writes an anydata value to a given {@link OutputStream} as JSON, encoded in UTF-8. The output is the same as
+     * that of {@code value:toJsonString}, but the value is not converted to json or a string first.
+     *
+     * @param value anydata value
+     * @param out   Output source
+     * @throws BError If the value is not anydata, has cycles or cannot be written.
+     */
+    public static void serializeAnydata(Object value, OutputStream out) throws BError {
+        try {
+            JsonSerializer serializer = new JsonSerializer(out);
+            serializer.serialize(value);
+            serializer.flush();
+        } catch (IOException e) {
+            throw new ErrorValue(StringUtils.fromString(e.getMessage()), e);
+        }
+    }
+
     /**
      * Represents the modes which process numeric values while converting a string to JSON.
      */
@@ -20,52 +20,105 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * A lock that is free is acquired with a compare-and-set of its owner. Only strands that have to wait for the lock
+ * synchronize on it, to add themselves to the waiting strands without missing an unlock.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private final BLockStore lockStore;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final AtomicReference<Strand> owner;
 
+    // Number of times the owner has acquired the lock, which is only accessed by the owner
+    private int holdCount;
+
+    private final ConcurrentLinkedQueue<Strand> waitingForLock;
+
+    /**
+     * Creates a lock that is not in a lock store, such as the lock of an object field. As before, such locks are not
+     * considered when checking for async calls made while holding a lock.
+     */
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this(null);
+    }
+
+    public BLock(BLockStore lockStore) {
+        this.lockStore = lockStore;
+        this.owner = new AtomicReference<>();
+        this.waitingForLock = new ConcurrentLinkedQueue<>();
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public boolean lock(Strand strand) {
+        if (owner.get() == strand) {
+            holdCount++;
+            return true;
+        }
+        if (owner.compareAndSet(null, strand)) {
+            acquired(strand);
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        synchronized (this) {
+            this.waitingForLock.offer(strand);
+            // The lock may have been unlocked before the strand was added, in which case nobody would unblock it.
+            if (owner.compareAndSet(null, strand)) {
+                this.waitingForLock.remove(strand);
+                acquired(strand);
+                return true;
+            }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
-        return false;
+            // Strand state change
+            strand.setState(State.BLOCK_AND_YIELD);
+            strand.blockedOnExtern = false;
+            return false;
+        }
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        if (--holdCount > 0) {
+            return;
+        }
+        owner.get().acquiredLocks.remove(this);
+        owner.set(null);
         if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
+            unblockWaitingStrand();
+        }
+    }
+
+    private synchronized void unblockWaitingStrand() {
+        Strand strand = this.waitingForLock.poll();
+        if (strand != null) {
             strand.scheduler.unblockStrand(strand);
         }
     }
 
+    private void acquired(Strand strand) {
+        holdCount = 1;
+        if (strand.acquiredLocks == null) {
+            strand.acquiredLocks = new ArrayList<>();
+        }
+        strand.acquiredLocks.add(this);
+    }
+
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.owner.get() == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner.get() == ctx;
+    }
+
+    boolean isInStore(BLockStore lockStore) {
+        return this.lockStore == lockStore;
     }
 }
@@ -0,0 +1,564 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.BmpStringValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+
+/**
+ * A JSON parser that reads UTF-8 encoded bytes, creating the JSON values as it goes.
+ * <p>
+ * Unlike {@link JsonParser}, the input is not decoded into chars first. Strings without escapes that are within a
+ * single chunk of input are decoded straight from that chunk, and field names are interned, so that the maps of a
+ * document share their keys. The input can be pushed in chunks of any size using {@link #feed(byte[], int, int)},
+ * followed by {@link #finish()} to get the parsed value.
+ *
+ * @since 2201.2.0
+ */
+@SuppressWarnings("unchecked")
+public class JsonByteParser {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 65536;
+    private static final int NAME_CACHE_SIZE = 512;
+
+    // Expecting a value.
+    private static final int VALUE = 0;
+    // Expecting the first field of an object or its end.
+    private static final int FIRST_FIELD = 1;
+    // Expecting a field of an object after a comma.
+    private static final int FIELD = 2;
+    // Expecting the colon after a field name.
+    private static final int FIELD_NAME_END = 3;
+    // Expecting the first element of an array or its end.
+    private static final int FIRST_ELEMENT = 4;
+    // Expecting a comma or the end of the current object or array.
+    private static final int VALUE_END = 5;
+    // Expecting nothing but whitespace after the root value.
+    private static final int DOCUMENT_END = 6;
+    // Within a string.
+    private static final int STRING = 7;
+    // Just after a backslash within a string.
+    private static final int ESCAPE = 8;
+    // Within the hexadecimal digits of an escaped unicode character.
+    private static final int UNICODE = 9;
+    // Within a number, a boolean or null.
+    private static final int TOKEN = 10;
+
+    private static final ThreadLocal<JsonByteParser> tlParser =
+            ThreadLocal.withInitial(() -> new JsonByteParser(FROM_JSON_STRING));
+
+    private JsonUtils.NonStringValueProcessingMode mode;
+    private BMapType mapType;
+    private BArrayType arrayType;
+
+    private int state = VALUE;
+    private Object root;
+    private Object[] containers = new Object[16];
+    private BString[] fieldNames = new BString[16];
+    private int depth = 0;
+    private boolean inFieldName;
+
+    // Bytes of the current string or token that are not decoded yet, and the decoded chars of the current string.
+    private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+    private int byteCount = 0;
+    private final StringBuilder chars = new StringBuilder();
+    private int hexValue;
+    private int hexDigits;
+
+    private final byte[][] cachedNameBytes = new byte[NAME_CACHE_SIZE][];
+    private final BString[] cachedNames = new BString[NAME_CACHE_SIZE];
+
+    // Offset of the first byte of the current chunk in the whole input, used to report error locations.
+    private long chunkOffset = 0;
+    private long position = 0;
+    private int line = 1;
+    private long lineOffset = 0;
+
+    /**
+     * Creates a parser that is fed with input chunks.
+     *
+     * @param mode the mode to use when processing numeric values
+     */
+    public JsonByteParser(JsonUtils.NonStringValueProcessingMode mode) {
+        setMode(mode);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link InputStream} and returns a json.
+     *
+     * @param in   input stream which contains the JSON content
+     * @param mode the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(InputStream in, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        // Reuse the parser of the thread to keep its buffers and interned field names across documents.
+        JsonByteParser parser = tlParser.get();
+        try {
+            parser.setMode(mode);
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                parser.feed(buffer, 0, count);
+            }
+            return parser.finish();
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } finally {
+            parser.reset();
+        }
+    }
+
+    /**
+     * Parses the next chunk of the input.
+     *
+     * @param buf    buffer which contains the chunk
+     * @param offset offset of the chunk in the buffer
+     * @param length length of the chunk
+     * @throws BError for any parsing error
+     */
+    public void feed(byte[] buf, int offset, int length) throws BError {
+        int end = offset + length;
+        chunkOffset = position - offset;
+        position += length;
+        int i = offset;
+        while (i < end) {
+            switch (state) {
+                case STRING:
+                    i = scanString(buf, i, end);
+                    continue;
+                case ESCAPE:
+                    processEscapedChar(buf[i], i);
+                    i++;
+                    continue;
+                case UNICODE:
+                    processHexDigit(buf[i], i);
+                    i++;
+                    continue;
+                case TOKEN:
+                    i = scanToken(buf, i, end);
+                    continue;
+                default:
+                    break;
+            }
+            byte b = buf[i];
+            if (b == ' ' || b == '\t' || b == '\r') {
+                i++;
+            } else if (b == '\n') {
+                newLine(i);
+                i++;
+            } else {
+                i = processStructuralChar(b, i);
+            }
+        }
+    }
+
+    /**
+     * Ends the input and returns the parsed value. The parser can be fed with a new document afterwards.
+     *
+     * @return JSON structure
+     * @throws BError if the input is not a complete JSON document
+     */
+    public Object finish() throws BError {
+        try {
+            long eofIndex = position - chunkOffset;
+            if (state == TOKEN && depth == 0) {
+                completeToken(eofIndex);
+            }
+            if (state == DOCUMENT_END) {
+                return root;
+            }
+            if (state == VALUE && depth == 0) {
+                throw createError("empty JSON document", eofIndex);
+            }
+            throw createError("unexpected end of JSON document", eofIndex);
+        } finally {
+            reset();
+        }
+    }
+
+    private void setMode(JsonUtils.NonStringValueProcessingMode mode) {
+        this.mode = mode;
+        Type jsonType;
+        if (mode == FROM_JSON_DECIMAL_STRING) {
+            jsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
+        } else if (mode == FROM_JSON_FLOAT_STRING) {
+            jsonType = PredefinedTypes.TYPE_JSON_FLOAT;
+        } else {
+            jsonType = PredefinedTypes.TYPE_JSON;
+        }
+        this.mapType = new BMapType(jsonType);
+        this.arrayType = new BArrayType(jsonType);
+    }
+
+    private void reset() {
+        // Drop the references to the created values, so that they can be garbage collected.
+        Arrays.fill(containers, 0, depth, null);
+        Arrays.fill(fieldNames, 0, depth, null);
+        state = VALUE;
+        root = null;
+        depth = 0;
+        byteCount = 0;
+        if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+            bytes = new byte[INITIAL_BUFFER_SIZE];
+        }
+        chars.setLength(0);
+        if (chars.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            chars.trimToSize();
+        }
+        chunkOffset = 0;
+        position = 0;
+        line = 1;
+        lineOffset = 0;
+    }
+
+    private int processStructuralChar(byte b, int i) {
+        switch (state) {
+            case VALUE:
+                return startValue(b, i);
+            case FIRST_FIELD:
+                if (b == '}') {
+                    closeContainer();
+                    return i + 1;
+                }
+                if (b == '"') {
+                    startString(true);
+                    return i + 1;
+                }
+                throw createExpectedError(i, "\"", "}");
+            case FIELD:
+                if (b == '"') {
+                    startString(true);
+                    return i + 1;
+                }
+                throw createExpectedError(i, "\"");
+            case FIELD_NAME_END:
+                if (b == ':') {
+                    state = VALUE;
+                    return i + 1;
+                }
+                throw createExpectedError(i, ":");
+            case FIRST_ELEMENT:
+                if (b == ']') {
+                    closeContainer();
+                    return i + 1;
+                }
+                return startValue(b, i);
+            case VALUE_END:
+                boolean inMap = containers[depth - 1] instanceof MapValueImpl;
+                if (b == ',') {
+                    state = inMap ? FIELD : VALUE;
+                    return i + 1;
+                }
+                if (b == (inMap ? '}' : ']')) {
+                    closeContainer();
+                    return i + 1;
+                }
+                throw createExpectedError(i, ",", inMap ? "}" : "]");
+            default:
+                throw createError("JSON document has already ended", i);
+        }
+    }
+
+    private int startValue(byte b, int i) {
+        switch (b) {
+            case '{':
+                openContainer(new MapValueImpl<>(mapType));
+                state = FIRST_FIELD;
+                return i + 1;
+            case '[':
+                openContainer(new ArrayValueImpl(arrayType));
+                state = FIRST_ELEMENT;
+                return i + 1;
+            case '"':
+                startString(false);
+                return i + 1;
+            default:
+                // The token is scanned starting from this byte.
+                state = TOKEN;
+                return i;
+        }
+    }
+
+    private void openContainer(Object container) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+            fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+        }
+        containers[depth++] = container;
+    }
+
+    private void closeContainer() {
+        Object container = containers[--depth];
+        containers[depth] = null;
+        addValue(container);
+    }
+
+    private void addValue(Object value) {
+        if (depth == 0) {
+            root = value;
+            state = DOCUMENT_END;
+            return;
+        }
+        Object parent = containers[depth - 1];
+        if (parent instanceof MapValueImpl) {
+            ((MapValueImpl<BString, Object>) parent).put(fieldNames[depth - 1], value);
+            fieldNames[depth - 1] = null;
+        } else {
+            ((ArrayValueImpl) parent).append(value);
+        }
+        state = VALUE_END;
+    }
+
+    private void startString(boolean fieldName) {
+        inFieldName = fieldName;
+        state = STRING;
+    }
+
+    private int scanString(byte[] buf, int start, int end) {
+        boolean ascii = true;
+        for (int i = start; i < end; i++) {
+            byte b = buf[i];
+            if (b == '"') {
+                if (byteCount == 0 && chars.length() == 0) {
+                    // The whole string is within this chunk, so decode it straight from the chunk.
+                    completeString(buf, start, i - start, ascii);
+                } else {
+                    appendBytes(buf, start, i - start);
+                    decodeBytes();
+                    String value = chars.toString();
+                    chars.setLength(0);
+                    completeString(StringUtils.fromString(value));
+                }
+                return i + 1;
+            } else if (b == '\\') {
+                appendBytes(buf, start, i - start);
+                decodeBytes();
+                state = ESCAPE;
+                return i + 1;
+            } else if (b < 0) {
+                ascii = false;
+            } else if (b == '\n') {
+                newLine(i);
+            }
+        }
+        appendBytes(buf, start, end - start);
+        return end;
+    }
+
+    private void completeString(byte[] buf, int start, int length, boolean ascii) {
+        if (inFieldName) {
+            completeString(internFieldName(buf, start, length, ascii));
+        } else {
+            completeString(createString(buf, start, length, ascii));
+        }
+    }
+
+    private void completeString(BString value) {
+        if (inFieldName) {
+            fieldNames[depth - 1] = value;
+            state = FIELD_NAME_END;
+        } else {
+            addValue(value);
+        }
+    }
+
+    private BString internFieldName(byte[] buf, int start, int length, boolean ascii) {
+        int hash = 1;
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + buf[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        byte[] cached = cachedNameBytes[slot];
+        if (cached != null && Arrays.equals(cached, 0, cached.length, buf, start, start + length)) {
+            return cachedNames[slot];
+        }
+        BString name = createString(buf, start, length, ascii);
+        cachedNameBytes[slot] = Arrays.copyOfRange(buf, start, start + length);
+        cachedNames[slot] = name;
+        return name;
+    }
+
+    private static BString createString(byte[] buf, int start, int length, boolean ascii) {
+        if (ascii) {
+            return new BmpStringValue(new String(buf, start, length, StandardCharsets.ISO_8859_1));
+        }
+        return StringUtils.fromString(new String(buf, start, length, StandardCharsets.UTF_8));
+    }
+
+    private void processEscapedChar(byte b, int i) {
+        char ch;
+        switch (b) {
+            case '"':
+            case '\\':
+            case '/':
+                ch = (char) b;
+                break;
+            case 'b':
+                ch = '\b';
+                break;
+            case 'f':
+                ch = '\f';
+                break;
+            case 'n':
+                ch = '\n';
+                break;
+            case 'r':
+                ch = '\r';
+                break;
+            case 't':
+                ch = '\t';
+                break;
+            case 'u':
+                hexValue = 0;
+                hexDigits = 0;
+                state = UNICODE;
+                return;
+            default:
+                throw createExpectedError(i, "escaped characters");
+        }
+        chars.append(ch);
+        state = STRING;
+    }
+
+    private void processHexDigit(byte b, int i) {
+        int digit = b < 0 ? -1 : Character.digit((char) b, 16);
+        if (digit < 0) {
+            throw createExpectedError(i, "hexadecimal value of an unicode character");
+        }
+        hexValue = (hexValue << 4) | digit;
+        if (++hexDigits == 4) {
+            chars.append((char) hexValue);
+            state = STRING;
+        }
+    }
+
+    private int scanToken(byte[] buf, int start, int end) {
+        int i = start;
+        while (i < end) {
+            byte b = buf[i];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+            i++;
+        }
+        appendBytes(buf, start, i - start);
+        if (i < end) {
+            // The terminating byte is processed in the state following the value.
+            completeToken(i);
+        }
+        return i;
+    }
+
+    private void completeToken(long index) {
+        Object value;
+        if (mode == FROM_JSON_STRING && byteCount <= 18) {
+            value = parseInt();
+        } else {
+            value = null;
+        }
+        if (value == null) {
+            String token = new String(bytes, 0, byteCount, StandardCharsets.UTF_8);
+            try {
+                value = JsonParser.parseNonStringValue(token, mode);
+            } catch (JsonParser.JsonParserException e) {
+                throw createError(e.getMessage(), index);
+            }
+        }
+        byteCount = 0;
+        addValue(value);
+    }
+
+    /**
+     * Parses the current token if it is an int that surely fits in a long, without creating a string.
+     *
+     * @return the value of the token, or null if it is not such an int
+     */
+    private Long parseInt() {
+        boolean negative = byteCount > 0 && bytes[0] == '-';
+        int i = negative ? 1 : 0;
+        if (i == byteCount) {
+            return null;
+        }
+        long value = 0;
+        for (; i < byteCount; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+        if (negative && value == 0) {
+            // Negative zero is a float.
+            return null;
+        }
+        return negative ? -value : value;
+    }
+
+    private void appendBytes(byte[] buf, int start, int length) {
+        if (byteCount + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, byteCount + length));
+        }
+        System.arraycopy(buf, start, bytes, byteCount, length);
+        byteCount += length;
+    }
+
+    private void decodeBytes() {
+        // Escapes are ASCII, so the bytes before an escape never end within a multi-byte character.
+        if (byteCount > 0) {
+            chars.append(new String(bytes, 0, byteCount, StandardCharsets.UTF_8));
+            byteCount = 0;
+        }
+    }
+
+    private void newLine(long index) {
+        line++;
+        lineOffset = chunkOffset + index + 1;
+    }
+
+    private BError createExpectedError(long index, String... chars) {
+        return createError("expected '" + String.join("' or '", chars) + "'", index);
+    }
+
+    private BError createError(String message, long index) {
+        long column = chunkOffset + index - lineOffset + 1;
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + line + " column: " +
+                column));
+    }
+}
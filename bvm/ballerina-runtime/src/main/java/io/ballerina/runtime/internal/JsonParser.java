@@ -40,6 +40,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -82,6 +83,9 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(InputStream in, String charsetName) throws BError {
+        if (isUtf8(charsetName)) {
+            return JsonByteParser.parse(in, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        }
         try {
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
@@ -92,6 +96,11 @@ public class JsonParser {
         }
     }
 
+    private static boolean isUtf8(String charsetName) {
+        return StandardCharsets.UTF_8.name().equalsIgnoreCase(charsetName) ||
+                StandardCharsets.UTF_8.aliases().stream().anyMatch(alias -> alias.equalsIgnoreCase(charsetName));
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -142,10 +151,69 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Converts a JSON token that is not a string, i.e. a number, a boolean or null, to its value.
+     *
+     * @param str  the token
+     * @param mode the mode to use when processing numeric values
+     * @return value of the token
+     * @throws JsonParserException if the token is not a valid JSON value
+     */
+    static Object parseNonStringValue(String str, JsonUtils.NonStringValueProcessingMode mode)
+            throws JsonParserException {
+        if (str.isEmpty()) {
+            throw new JsonParserException("unrecognized token ''");
+        }
+        if (str.indexOf('.') >= 0) {
+            try {
+                switch (mode) {
+                    case FROM_JSON_FLOAT_STRING:
+                        return Double.parseDouble(str);
+                    case FROM_JSON_DECIMAL_STRING:
+                        return new DecimalValue(str);
+                    default:
+                        if (isNegativeZero(str)) {
+                            return Double.parseDouble(str);
+                        }
+                        return new DecimalValue(str);
+                }
+            } catch (NumberFormatException ignore) {
+                throw new JsonParserException("unrecognized token '" + str + "'");
+            }
+        }
+        char ch = str.charAt(0);
+        if (ch == 't' && StateMachine.TRUE.equals(str)) {
+            return Boolean.TRUE;
+        } else if (ch == 'f' && StateMachine.FALSE.equals(str)) {
+            return Boolean.FALSE;
+        } else if (ch == 'n' && StateMachine.NULL.equals(str)) {
+            return null;
+        }
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if (isNegativeZero(str)) {
+                        return Double.parseDouble(str);
+                    }
+                    return Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw new JsonParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
-    private static class JsonParserException extends Exception {
+    static class JsonParserException extends Exception {
 
         private static final long serialVersionUID = 6359022327525293320L;
 
@@ -843,96 +911,7 @@ public class JsonParser {
         }
 
         private void processNonStringValue(ValueType type) throws JsonParserException {
-            String str = value();
-            if (str.indexOf('.') >= 0) {
-                try {
-                    switch (mode) {
-                        case FROM_JSON_FLOAT_STRING:
-                            setValueToJsonType(type, Double.parseDouble(str));
-                            break;
-                        case FROM_JSON_DECIMAL_STRING:
-                            setValueToJsonType(type, new DecimalValue(str));
-                            break;
-                        default:
-                            if (isNegativeZero(str)) {
-                                setValueToJsonType(type, Double.parseDouble(str));
-                            } else {
-                                setValueToJsonType(type, new DecimalValue(str));
-                            }
-                            break;
-                    }
-                } catch (NumberFormatException ignore) {
-                    throw new JsonParserException("unrecognized token '" + str + "'");
-                }
-            } else {
-                char ch = str.charAt(0);
-                if (ch == 't' && TRUE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.TRUE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.TRUE;
-                            break;
-                        default:
-                            break;
-                    }
-                } else if (ch == 'f' && FALSE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.FALSE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.FALSE;
-                            break;
-                        default:
-                            break;
-                    }
-                } else if (ch == 'n' && NULL.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(null);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
-                            break;
-                        case VALUE:
-                            currentJsonNode = null;
-                            break;
-                        default:
-                            break;
-                    }
-                } else {
-                    try {
-                        switch (mode) {
-                            case FROM_JSON_FLOAT_STRING:
-                                setValueToJsonType(type, Double.parseDouble(str));
-                                break;
-                            case FROM_JSON_DECIMAL_STRING:
-                                setValueToJsonType(type, new DecimalValue(str));
-                                break;
-                            default:
-                                if (isNegativeZero(str)) {
-                                    setValueToJsonType(type, Double.parseDouble(str));
-                                } else {
-                                    setValueToJsonType(type, Long.parseLong(str));
-                                }
-                                break;
-                        }
-                    } catch (NumberFormatException ignore) {
-                        throw new JsonParserException("unrecognized token '" + str + "'");
-                    }
-                }
-            }
+            setValueToJsonType(type, parseNonStringValue(value(), mode));
         }
 
         private void setValueToJsonType(ValueType type, Object value) {
@@ -950,10 +929,6 @@ public class JsonParser {
             }
         }
 
-        private boolean isNegativeZero(String str) {
-            return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
-        }
-
         /**
          * Represents the state during a non-string value is defined.
          */
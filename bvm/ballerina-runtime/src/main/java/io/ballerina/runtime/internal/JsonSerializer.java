@@ -0,0 +1,374 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR;
+import static io.ballerina.runtime.internal.util.exceptions.RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION;
+
+/**
+ * Writes anydata values to a given {@link OutputStream} as JSON, encoded in UTF-8.
+ * <p>
+ * The output is the same as that of lang.value:toJsonString, but the value is written as it is traversed instead of
+ * being converted to a json value and a string first. The elements of arrays of simple values are read from the
+ * arrays backing them without being boxed, and the bytes are written through a buffer owned by the serializer.
+ *
+ * @since 2201.2.0
+ */
+public class JsonSerializer {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] SEPARATOR = {',', ' '};
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    // Strings are escaped only if they contain one of these, as done by the JsonGenerator.
+    private static final boolean[] ESCAPE_TRIGGERS = new boolean[93];
+
+    static {
+        ESCAPE_TRIGGERS['"'] = true;
+        ESCAPE_TRIGGERS['\\'] = true;
+        ESCAPE_TRIGGERS['\b'] = true;
+        ESCAPE_TRIGGERS['\n'] = true;
+        ESCAPE_TRIGGERS['\r'] = true;
+        ESCAPE_TRIGGERS['\t'] = true;
+    }
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    public JsonSerializer(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the given value as JSON. The output is buffered until {@link #flush()} is called.
+     *
+     * @param value anydata value
+     * @throws IOException if the output cannot be written
+     * @throws BError      if the value is not anydata or has cycles, in which case part of it may have been written
+     */
+    public void serialize(Object value) throws IOException {
+        if (value instanceof DecimalValue) {
+            // A decimal at the top level is written in its string form, as done by lang.value:toJsonString.
+            writeAscii(((DecimalValue) value).stringValue(null));
+            return;
+        }
+        writeValue(value, null);
+    }
+
+    public void flush() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+        out.flush();
+    }
+
+    private void writeValue(Object value, BLink parent) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+        } else if (value instanceof BString) {
+            writeString(((BString) value).getValue());
+        } else if (value instanceof Long) {
+            writeLong((Long) value);
+        } else if (value instanceof Double) {
+            writeAscii(Double.toString((Double) value));
+        } else if (value instanceof Boolean) {
+            writeBytes((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof DecimalValue) {
+            writeAscii(((DecimalValue) value).value().toString());
+        } else if (value instanceof Integer) {
+            writeLong((Integer) value);
+        } else {
+            writeStructuredValue(value, parent);
+        }
+    }
+
+    private void writeStructuredValue(Object value, BLink parent) throws IOException {
+        Type type = TypeChecker.getType(value);
+        CycleUtils.Node node = new CycleUtils.Node(value, parent);
+        if (node.hasCyclesSoFar()) {
+            throw createError(VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper.getErrorDetails(
+                    RuntimeErrors.CYCLIC_VALUE_REFERENCE, ((BRefValue) value).getType()));
+        }
+        switch (type.getTag()) {
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                writeString(StringUtils.getStringValue(value, null));
+                break;
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.ARRAY_TAG:
+                writeArray((ArrayValue) value, node);
+                break;
+            case TypeTags.TABLE_TAG:
+                writeTable((BTable<?, ?>) value, node);
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+                writeMap((BMap<?, ?>) value, node);
+                break;
+            default:
+                throw createError(VALUE_LANG_LIB_CONVERSION_ERROR, BLangExceptionHelper.getErrorDetails(
+                        INCOMPATIBLE_CONVERT_OPERATION, type, PredefinedTypes.TYPE_JSON));
+        }
+    }
+
+    private void writeArray(ArrayValue array, BLink node) throws IOException {
+        writeByte('[');
+        int size = array.size();
+        int elementTypeTag = array instanceof ArrayValueImpl ? array.getElementType().getTag() : TypeTags.ANY_TAG;
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                writeBytes(SEPARATOR);
+            }
+            switch (elementTypeTag) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    writeLong(array.getInt(i));
+                    break;
+                case TypeTags.BYTE_TAG:
+                    writeLong(Byte.toUnsignedInt(array.getByte(i)));
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    writeAscii(Double.toString(array.getFloat(i)));
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    writeBytes(array.getBoolean(i) ? TRUE : FALSE);
+                    break;
+                default:
+                    writeValue(array.get(i), node);
+            }
+        }
+        writeByte(']');
+    }
+
+    private void writeMap(BMap<?, ?> map, BLink node) throws IOException {
+        writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                writeBytes(SEPARATOR);
+            }
+            first = false;
+            writeString(entry.getKey().toString());
+            writeByte(':');
+            writeValue(entry.getValue(), node);
+        }
+        writeByte('}');
+    }
+
+    private void writeTable(BTable<?, ?> table, BLink node) throws IOException {
+        boolean mapConstrained =
+                ((TableType) table.getType()).getConstrainedType().getTag() == TypeTags.MAP_TAG;
+        writeByte('[');
+        BIterator<?> iterator = table.getIterator();
+        boolean first = true;
+        while (iterator.hasNext()) {
+            if (!first) {
+                writeBytes(SEPARATOR);
+            }
+            first = false;
+            BMap<?, ?> row = (BMap<?, ?>) ((BArray) iterator.next()).get(1);
+            if (mapConstrained) {
+                writeMap(row, node);
+                continue;
+            }
+            // Rows of other tables are converted the same way as by JsonUtils.toJSON.
+            Object jsonRow;
+            try {
+                jsonRow = TableJsonDataSource.toJson(row);
+            } catch (BallerinaException e) {
+                throw createError(VALUE_LANG_LIB_CONVERSION_ERROR, BLangExceptionHelper.getErrorMessage(
+                        INCOMPATIBLE_CONVERT_OPERATION, table.getType(), PredefinedTypes.TYPE_JSON)
+                        .concat(StringUtils.fromString(": ".concat(e.getMessage()))));
+            }
+            writeValue(jsonRow, node);
+        }
+        writeByte(']');
+    }
+
+    private void writeString(String value) throws IOException {
+        int length = value.length();
+        boolean escape = false;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < ESCAPE_TRIGGERS.length && ESCAPE_TRIGGERS[ch]) {
+                escape = true;
+                break;
+            }
+        }
+        writeByte('"');
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (escape && writeEscaped(ch)) {
+                    continue;
+                }
+                ensureCapacity(1);
+                buffer[position++] = (byte) ch;
+            } else if (ch < 0x800) {
+                ensureCapacity(2);
+                buffer[position++] = (byte) (0xC0 | (ch >> 6));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                ensureCapacity(3);
+                buffer[position++] = (byte) (0xE0 | (ch >> 12));
+                buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // Unpaired surrogates are replaced the same way as by the UTF-8 encoder.
+                ensureCapacity(1);
+                buffer[position++] = '?';
+            }
+        }
+        writeByte('"');
+    }
+
+    private boolean writeEscaped(char ch) throws IOException {
+        char escaped;
+        switch (ch) {
+            case '"':
+                escaped = '"';
+                break;
+            case '\\':
+                escaped = '\\';
+                break;
+            case '/':
+                escaped = '/';
+                break;
+            case '\b':
+                escaped = 'b';
+                break;
+            case '\n':
+                escaped = 'n';
+                break;
+            case '\r':
+                escaped = 'r';
+                break;
+            case '\f':
+                escaped = 'f';
+                break;
+            case '\t':
+                escaped = 't';
+                break;
+            default:
+                return false;
+        }
+        ensureCapacity(2);
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) escaped;
+        return true;
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensureCapacity(length);
+        if (length > buffer.length) {
+            out.write(value.getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(char ch) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) ch;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (position + length > buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
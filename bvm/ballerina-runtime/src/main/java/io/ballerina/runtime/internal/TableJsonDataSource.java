@@ -94,6 +94,16 @@ public class TableJsonDataSource implements JsonDataSource {
         return values;
     }
 
+    /**
+     * Converts a row of a table to json, the same way as the rows are converted by {@link #build()}.
+     *
+     * @param record row of the table
+     * @return json value of the row
+     */
+    static Object toJson(BMap<?, ?> record) {
+        return new DefaultJSONObjectGenerator().transform(record);
+    }
+
     /**
      * Default {@link TableJsonDataSource.JSONObjectGenerator} implementation based
      * on the table's in-built column definition.
@@ -0,0 +1,454 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BListInitialValueEntry;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+
+/**
+ * Parses a JSON string directly into a value of a given type, without first creating the generic json value.
+ * <p>
+ * Supports records, maps, open arrays, json, anydata, the simple basic types and optional types formed from them.
+ * The values are created the same way as converting the parsed json value with lang.value:fromJsonWithType, but the
+ * parser only handles input that converts without errors. Any other input, including malformed JSON, makes it give
+ * up, so that the caller can parse and convert the string as usual and report the same error as before.
+ *
+ * @since 2201.2.0
+ */
+public class TypedJsonParser {
+
+    private static final ParseAbortedException ABORTED = new ParseAbortedException();
+
+    private final String json;
+    private final BTypedesc typedesc;
+    private int index;
+
+    private TypedJsonParser(String json, BTypedesc typedesc) {
+        this.json = json;
+        this.typedesc = typedesc;
+    }
+
+    /**
+     * Parses a JSON string into a value of the type described by the given typedesc.
+     *
+     * @param json     JSON string
+     * @param typedesc type of the value to be created
+     * @return the value, or null if the type is not supported, the string is not valid JSON or it cannot be
+     * converted to the type without errors
+     */
+    public static Object parse(String json, BTypedesc typedesc) {
+        if (!isSupported(typedesc.getDescribingType(), new HashSet<>())) {
+            return null;
+        }
+        TypedJsonParser parser = new TypedJsonParser(json, typedesc);
+        try {
+            parser.skipWhitespace();
+            Object value = parser.parseValue(typedesc.getDescribingType());
+            parser.skipWhitespace();
+            return parser.index == json.length() ? value : null;
+        } catch (ParseAbortedException | BError e) {
+            return null;
+        }
+    }
+
+    private static boolean isSupported(Type type, Set<Type> visitedTypes) {
+        type = getReferredType(type);
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return true;
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return !type.isReadOnly();
+            case TypeTags.UNION_TAG:
+                Type memberType = getNonNilMemberType((UnionType) type);
+                return memberType != null && isSupported(memberType, visitedTypes);
+            case TypeTags.MAP_TAG:
+                return !type.isReadOnly() && isSupported(((MapType) type).getConstrainedType(), visitedTypes);
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                return !type.isReadOnly() && arrayType.getSize() == -1 &&
+                        isSupported(arrayType.getElementType(), visitedTypes);
+            case TypeTags.RECORD_TYPE_TAG:
+                if (type.isReadOnly()) {
+                    return false;
+                }
+                if (!visitedTypes.add(type)) {
+                    return true;
+                }
+                RecordType recordType = (RecordType) type;
+                for (Field field : recordType.getFields().values()) {
+                    if (!isSupported(field.getFieldType(), visitedTypes)) {
+                        return false;
+                    }
+                }
+                return recordType.isSealed() || isSupported(recordType.getRestFieldType(), visitedTypes);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns T of an optional type T?, where T is not itself nilable.
+     */
+    private static Type getNonNilMemberType(UnionType unionType) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        Type memberType;
+        if (getReferredType(memberTypes.get(0)).getTag() == TypeTags.NULL_TAG) {
+            memberType = memberTypes.get(1);
+        } else if (getReferredType(memberTypes.get(1)).getTag() == TypeTags.NULL_TAG) {
+            memberType = memberTypes.get(0);
+        } else {
+            return null;
+        }
+        return memberType.isNilable() ? null : memberType;
+    }
+
+    private Object parseValue(Type type) {
+        type = getReferredType(type);
+        if (type.getTag() == TypeTags.UNION_TAG) {
+            // A non-nil value is converted to T? the same way as to T.
+            return parseValue(getReferredType(getNonNilMemberType((UnionType) type)), true);
+        }
+        return parseValue(type, type.isNilable());
+    }
+
+    private Object parseValue(Type type, boolean nilable) {
+        if (index == json.length()) {
+            throw ABORTED;
+        }
+        switch (json.charAt(index)) {
+            case '{':
+                switch (type.getTag()) {
+                    case TypeTags.RECORD_TYPE_TAG:
+                        return parseRecord((RecordType) type);
+                    case TypeTags.MAP_TAG:
+                        return parseMap((MapType) type);
+                    case TypeTags.JSON_TAG:
+                    case TypeTags.ANYDATA_TAG:
+                        return parseMap(TypeCreator.createMapType(type));
+                    default:
+                        throw ABORTED;
+                }
+            case '[':
+                switch (type.getTag()) {
+                    case TypeTags.ARRAY_TAG:
+                        return parseArray((ArrayType) type);
+                    case TypeTags.JSON_TAG:
+                        return parseArray(TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
+                    case TypeTags.ANYDATA_TAG:
+                        return parseArray(TypeCreator.createArrayType(type));
+                    default:
+                        throw ABORTED;
+                }
+            case '"':
+                return convertSimpleValue(StringUtils.fromString(parseString()), type);
+            default:
+                Object value = parseNonStringValue();
+                if (value == null) {
+                    if (!nilable) {
+                        throw ABORTED;
+                    }
+                    return null;
+                }
+                return convertSimpleValue(value, type);
+        }
+    }
+
+    private Object convertSimpleValue(Object value, Type type) {
+        switch (type.getTag()) {
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return value;
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                if (!TypeChecker.checkIsLikeType(value, type, true)) {
+                    throw ABORTED;
+                }
+                if (TypeChecker.checkIsType(value, type)) {
+                    return value;
+                }
+                // Has to be a numeric conversion.
+                return TypeConverter.convertValues(type, value);
+            default:
+                throw ABORTED;
+        }
+    }
+
+    private Object parseRecord(RecordType recordType) {
+        Map<String, Field> fields = recordType.getFields();
+        Map<String, Object> values = new LinkedHashMap<>();
+        index++;
+        skipWhitespace();
+        if (!consume('}')) {
+            do {
+                skipWhitespace();
+                String key = parseKey();
+                Field field = fields.get(key);
+                Type fieldType;
+                if (field != null) {
+                    fieldType = field.getFieldType();
+                } else if (!recordType.isSealed()) {
+                    fieldType = recordType.getRestFieldType();
+                } else {
+                    throw ABORTED;
+                }
+                values.put(key, parseValue(fieldType));
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+        }
+        for (Field field : fields.values()) {
+            if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) &&
+                    !values.containsKey(field.getFieldName())) {
+                throw ABORTED;
+            }
+        }
+
+        if (typedesc.getDescribingType() == recordType) {
+            BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[values.size()];
+            int count = 0;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                initialValues[count++] = ValueCreator.createKeyFieldEntry(StringUtils.fromString(entry.getKey()),
+                                                                          entry.getValue());
+            }
+            return typedesc.instantiate(Scheduler.getStrand(), initialValues);
+        }
+        return ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName(), new HashMap<>(values));
+    }
+
+    private Object parseMap(MapType mapType) {
+        Type constrainedType = mapType.getConstrainedType();
+        Map<String, Object> values = new LinkedHashMap<>();
+        index++;
+        skipWhitespace();
+        if (!consume('}')) {
+            do {
+                skipWhitespace();
+                String key = parseKey();
+                values.put(key, parseValue(constrainedType));
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+        }
+        BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[values.size()];
+        int count = 0;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            initialValues[count++] = ValueCreator.createKeyFieldEntry(StringUtils.fromString(entry.getKey()),
+                                                                      entry.getValue());
+        }
+        return ValueCreator.createMapValue(mapType, initialValues);
+    }
+
+    private Object parseArray(ArrayType arrayType) {
+        Type elementType = arrayType.getElementType();
+        List<BListInitialValueEntry> values = new ArrayList<>();
+        index++;
+        skipWhitespace();
+        if (!consume(']')) {
+            do {
+                skipWhitespace();
+                values.add(ValueCreator.createListInitialValueEntry(parseValue(elementType)));
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+        }
+        return ValueCreator.createArrayValue(arrayType, arrayType.getSize(),
+                                             values.toArray(new BListInitialValueEntry[0]));
+    }
+
+    private String parseKey() {
+        if (index == json.length() || json.charAt(index) != '"') {
+            throw ABORTED;
+        }
+        String key = parseString();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+        return key;
+    }
+
+    private String parseString() {
+        int start = ++index;
+        int length = json.length();
+        // Most strings have no escapes, so they can be taken as they are.
+        while (index < length) {
+            char ch = json.charAt(index);
+            if (ch == '"') {
+                return json.substring(start, index++);
+            }
+            if (ch == '\\' || ch < ' ') {
+                break;
+            }
+            index++;
+        }
+        StringBuilder builder = new StringBuilder(json.substring(start, index));
+        while (index < length) {
+            char ch = json.charAt(index++);
+            if (ch == '"') {
+                return builder.toString();
+            }
+            if (ch < ' ') {
+                throw ABORTED;
+            }
+            if (ch != '\\') {
+                builder.append(ch);
+                continue;
+            }
+            if (index == length) {
+                throw ABORTED;
+            }
+            switch (json.charAt(index++)) {
+                case '"':
+                    builder.append('"');
+                    break;
+                case '\\':
+                    builder.append('\\');
+                    break;
+                case '/':
+                    builder.append('/');
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append(parseUnicodeEscape());
+                    break;
+                default:
+                    throw ABORTED;
+            }
+        }
+        throw ABORTED;
+    }
+
+    private char parseUnicodeEscape() {
+        if (index + 4 > json.length()) {
+            throw ABORTED;
+        }
+        int codeUnit = 0;
+        for (int end = index + 4; index < end; index++) {
+            int digit = Character.digit(json.charAt(index), 16);
+            if (digit < 0) {
+                throw ABORTED;
+            }
+            codeUnit = (codeUnit << 4) | digit;
+        }
+        return (char) codeUnit;
+    }
+
+    private Object parseNonStringValue() {
+        int start = index;
+        int length = json.length();
+        while (index < length) {
+            char ch = json.charAt(index);
+            if (ch == ',' || ch == '}' || ch == ']' || isWhitespace(ch)) {
+                break;
+            }
+            index++;
+        }
+        try {
+            return JsonParser.parseNonStringValue(json.substring(start, index),
+                                                  JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        } catch (JsonParser.JsonParserException e) {
+            throw ABORTED;
+        }
+    }
+
+    private void skipWhitespace() {
+        int length = json.length();
+        while (index < length && isWhitespace(json.charAt(index))) {
+            index++;
+        }
+    }
+
+    private boolean consume(char ch) {
+        if (index < json.length() && json.charAt(index) == ch) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char ch) {
+        if (!consume(ch)) {
+            throw ABORTED;
+        }
+    }
+
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    /**
+     * Thrown to give up parsing. Carries no stack trace, since a single instance is shared.
+     */
+    private static class ParseAbortedException extends RuntimeException {
+
+        private ParseAbortedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.util.RuntimeUtils;
+
+/**
+ * Grows the worker pool of an adaptive {@link Scheduler} when strands wait in the runnable queue while every worker
+ * is busy. Workers beyond the minimum pool size retire by themselves once they stay idle for the keep alive time.
+ *
+ * @since 2201.2.0
+ */
+class AdaptivePoolMonitor implements Runnable {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 50;
+
+    private final Scheduler scheduler;
+    private boolean queuedInLastSample;
+
+    AdaptivePoolMonitor(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void run() {
+        while (!scheduler.isTerminated()) {
+            try {
+                Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+                adjustPoolSize();
+            } catch (InterruptedException e) {
+                return;
+            } catch (Throwable t) {
+                RuntimeUtils.printCrashLog(t);
+                return;
+            }
+        }
+    }
+
+    private void adjustPoolSize() {
+        int queued = scheduler.getRunnableQueueDepth();
+        boolean saturated = queued > 0 && scheduler.getBusyWorkers() >= scheduler.getLiveWorkers();
+        if (!saturated) {
+            queuedInLastSample = false;
+            return;
+        }
+        // Workers blocked in Java calls do not use the CPU, so replace them right away. Otherwise only grow when
+        // the backlog persists, since adding threads does not help CPU bound strands.
+        int blocked = scheduler.getBlockedWorkers();
+        int workersToAdd = blocked > 0 ? Math.min(queued, blocked) : (queuedInLastSample ? 1 : 0);
+        queuedInLastSample = true;
+        for (int i = 0; i < workersToAdd; i++) {
+            if (!scheduler.addWorker()) {
+                break;
+            }
+        }
+    }
+}
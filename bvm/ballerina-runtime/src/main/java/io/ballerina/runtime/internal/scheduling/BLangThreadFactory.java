@@ -17,6 +17,7 @@
  */
 package io.ballerina.runtime.internal.scheduling;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -51,4 +52,24 @@ public class BLangThreadFactory implements ThreadFactory {
         }
         return t;
     }
+
+    /**
+     * Creates a thread factory that creates JDK virtual threads with the given name prefix. Virtual threads are
+     * looked up reflectively since they are only available from Java 21 onwards.
+     *
+     * @param namePrefix prefix of the thread names
+     * @return virtual thread factory or null if the running JVM does not support virtual threads
+     */
+    public static ThreadFactory createVirtualThreadFactory(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            Method factory = builderClass.getMethod("factory");
+            Object builder = name.invoke(ofVirtual.invoke(null), namePrefix + "-", 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * Unsynchronized stack holding the frames of a {@link Strand} while it is yielded. Frames are only pushed and
+ * popped by the thread currently running the strand, so no locking is needed.
+ * <p>
+ * Most strands never yield, hence the backing array is only taken on the first push. Arrays of completed strands
+ * are returned to a small per thread pool and reused by strands created later.
+ *
+ * @since 2201.2.0
+ */
+public final class FrameStack {
+
+    private static final Object[] EMPTY_FRAMES = new Object[0];
+    private static final int INITIAL_CAPACITY = 8;
+    private static final ThreadLocal<FrameArrayPool> framePool = ThreadLocal.withInitial(FrameArrayPool::new);
+
+    private Object[] frames = EMPTY_FRAMES;
+    private int size;
+
+    public void push(Object frame) {
+        if (size == frames.length) {
+            grow();
+        }
+        frames[size++] = frame;
+    }
+
+    public Object pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        Object frame = frames[--size];
+        frames[size] = null;
+        return frame;
+    }
+
+    public Object peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return frames[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        if (frames == EMPTY_FRAMES) {
+            frames = framePool.get().acquire();
+        } else {
+            frames = Arrays.copyOf(frames, frames.length << 1);
+        }
+    }
+
+    /**
+     * Returns the backing array to the pool of the current thread. Called once the owning strand is completed.
+     */
+    void release() {
+        Object[] completedFrames = frames;
+        frames = EMPTY_FRAMES;
+        if (completedFrames == EMPTY_FRAMES) {
+            return;
+        }
+        // A panicked strand may leave frames behind, which must not be retained by the pool.
+        Arrays.fill(completedFrames, 0, size, null);
+        size = 0;
+        framePool.get().release(completedFrames);
+    }
+
+    /**
+     * Bounded pool of frame arrays, only accessed by its owner thread.
+     */
+    private static final class FrameArrayPool {
+
+        private static final int MAX_POOLED_ARRAYS = 32;
+        private static final int MAX_POOLED_CAPACITY = 64;
+
+        private final Object[][] arrays = new Object[MAX_POOLED_ARRAYS][];
+        private int count;
+
+        Object[] acquire() {
+            if (count == 0) {
+                return new Object[INITIAL_CAPACITY];
+            }
+            Object[] array = arrays[--count];
+            arrays[count] = null;
+            return array;
+        }
+
+        void release(Object[] array) {
+            if (count < MAX_POOLED_ARRAYS && array.length <= MAX_POOLED_CAPACITY) {
+                arrays[count++] = array;
+            }
+        }
+    }
+}
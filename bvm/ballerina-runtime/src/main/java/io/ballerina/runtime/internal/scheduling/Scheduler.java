@@ -30,15 +30,20 @@ import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
 
 import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -74,24 +79,109 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String minPoolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MIN_POOL_SIZE_ENV_VAR);
+
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
+    private static String strandExecutorConf = System.getenv(RuntimeConstants.BALLERINA_STRAND_EXECUTOR_ENV_VAR);
+
+    private static String strandMetricsConf = System.getenv(RuntimeConstants.BALLERINA_STRAND_METRICS_ENV_VAR);
+
+    /**
+     * Creates the worker threads as JDK virtual threads when set. Set via the BALLERINA_STRAND_EXECUTOR system
+     * variable and left unset if the JVM does not support virtual threads.
+     */
+    private static final ThreadFactory virtualThreadFactory = getVirtualThreadFactory();
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
-     * Default is 100.
+     * Default is twice the number of available processors, or {@code VIRTUAL_THREAD_POOL_SIZE} when the workers
+     * are virtual threads.
      */
     private final int numThreads;
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
-    private Semaphore mainBlockSem;
+    /**
+     * A worker that is blocked in a Java interop call releases its carrier thread when it is a virtual thread, so
+     * many more workers can be afforded in that mode.
+     */
+    private static final int VIRTUAL_THREAD_POOL_SIZE = 256;
+
+    /**
+     * Number of workers kept alive at all times. The pool is adaptive when this is less than {@code numThreads},
+     * in which case workers are added on demand up to {@code numThreads}. This can be changed by setting the
+     * BALLERINA_MIN_POOL_SIZE system variable. Default is {@code numThreads}.
+     */
+    private final int minThreads;
+
+    /**
+     * Creates the worker threads, or null to create them as platform threads.
+     */
+    private final ThreadFactory workerThreadFactory;
+
+    /**
+     * Time an additional worker of an adaptive pool waits for work before it is retired.
+     */
+    private static final long WORKER_KEEP_ALIVE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final WorkerStats[] workerStats;
+    /**
+     * Worker threads by worker ID. Guarded by the array itself together with the pool bookkeeping below.
+     */
+    private final Thread[] workers;
+    private final Deque<Integer> freeWorkerIds = new ArrayDeque<>();
+    private int liveWorkers;
+    private boolean terminated;
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private Phaser workerPhaser;
+    private volatile SchedulerMetrics metrics;
+    /**
+     * Strand lifecycle metrics, which are only recorded when set.
+     */
+    private volatile StrandMetrics strandMetrics;
+
     private ListenerRegistry listenerRegistry;
     private AtomicReference<ItemGroup> objectGroup = new AtomicReference<>();
 
+    /**
+     * Per worker run queues, used only when the scheduler runs in work stealing mode.
+     */
+    private final WorkStealingRunQueue workStealingQueue;
+
     public Scheduler(boolean immortal) {
         this(getPoolSize(), immortal);
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, isWorkStealingEnabled());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
+        this(numThreads, getMinPoolSize(numThreads), immortal, workStealing, virtualThreadFactory);
+    }
+
+    /**
+     * Creates a scheduler with the given pool configuration, instead of the one set via the system variables.
+     *
+     * @param numThreads          maximum number of workers
+     * @param minThreads          number of workers kept alive at all times, which makes the pool adaptive when it is
+     *                            less than {@code numThreads}
+     * @param immortal            whether the scheduler keeps running after all the strands are done
+     * @param workStealing        whether the scheduler runs in work stealing mode
+     * @param workerThreadFactory creates the worker threads, or null to create them as platform threads
+     */
+    public Scheduler(int numThreads, int minThreads, boolean immortal, boolean workStealing,
+                     ThreadFactory workerThreadFactory) {
         this.numThreads = numThreads;
+        this.minThreads = minThreads;
+        this.workerThreadFactory = workerThreadFactory;
+        this.workers = new Thread[numThreads];
+        this.workerStats = new WorkerStats[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workerStats[i] = new WorkerStats();
+        }
+        this.workStealingQueue = workStealing ? new WorkStealingRunQueue(numThreads, runnableList) : null;
         this.immortal = immortal;
         this.listenerRegistry = new ListenerRegistry();
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
@@ -232,7 +322,8 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        markRunnable(item);
+        enqueue(group);
         return future;
     }
 
@@ -258,58 +349,145 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        markRunnable(item);
+        enqueue(group);
         return future;
     }
 
     public void start() {
-        this.mainBlockSem = new Semaphore(-(numThreads - 1));
-        for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+        // The calling thread is the last worker and is registered as the first party.
+        this.workerPhaser = new Phaser(1);
+        int mainWorkerId = numThreads - 1;
+        synchronized (workers) {
+            for (int i = 0; i < mainWorkerId; i++) {
+                freeWorkerIds.add(i);
+            }
+            workers[mainWorkerId] = Thread.currentThread();
+            liveWorkers = 1;
+            for (int i = 1; i < minThreads; i++) {
+                addWorker();
+            }
         }
-        this.runSafely();
-        try {
-            this.mainBlockSem.acquire();
-        } catch (InterruptedException e) {
-            RuntimeUtils.printCrashLog(e);
+        if (minThreads < numThreads) {
+            Thread monitor = new Thread(new AdaptivePoolMonitor(this), "jbal-strand-pool-monitor");
+            monitor.setDaemon(true);
+            monitor.start();
         }
+        this.runSafely(mainWorkerId);
+        this.workerPhaser.arriveAndAwaitAdvance();
+    }
+
+    /**
+     * Starts a new worker if the pool has not reached its maximum size.
+     *
+     * @return true if a worker was started
+     */
+    boolean addWorker() {
+        synchronized (workers) {
+            Integer workerId = freeWorkerIds.poll();
+            if (terminated || workerId == null) {
+                return false;
+            }
+            Runnable task = () -> {
+                try {
+                    runSafely(workerId);
+                } finally {
+                    releaseWorker(workerId);
+                }
+            };
+            Thread worker = workerThreadFactory != null ? workerThreadFactory.newThread(task) :
+                    new Thread(task, "jbal-strand-exec-" + workerId);
+            workers[workerId] = worker;
+            liveWorkers++;
+            workerPhaser.register();
+            worker.start();
+            return true;
+        }
+    }
+
+    /**
+     * Decides whether an idle worker of an adaptive pool can stop, keeping at least {@code minThreads} workers.
+     */
+    private boolean retireWorker() {
+        synchronized (workers) {
+            if (terminated || liveWorkers <= minThreads) {
+                return false;
+            }
+            liveWorkers--;
+            return true;
+        }
+    }
+
+    private void releaseWorker(int workerId) {
+        synchronized (workers) {
+            workers[workerId] = null;
+            freeWorkerIds.add(workerId);
+        }
+        workerPhaser.arriveAndDeregister();
     }
 
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        // The calling thread may already be a worker of another scheduler, e.g. when a scheduler is started
+        // from within a strand, hence restore its previous role once done.
+        StrandHolder holder = strandHolder.get();
+        Scheduler previousScheduler = holder.scheduler;
+        int previousWorkerId = holder.workerId;
+        holder.scheduler = this;
+        holder.workerId = workerId;
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            holder.scheduler = previousScheduler;
+            holder.workerId = previousWorkerId;
         }
     }
 
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
+        WorkerStats stats = workerStats[workerId];
+        // Only the additional workers of an adaptive pool stop when there is no work, never the calling thread.
+        long keepAliveNanos = minThreads < numThreads && workerId != numThreads - 1 ? WORKER_KEEP_ALIVE_NANOS : 0;
         while (true) {
             SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = takeGroup(workerId, keepAliveNanos);
             } catch (InterruptedException ignored) {
                 continue;
             }
 
+            if (group == null) {
+                if (retireWorker()) {
+                    break;
+                }
+                continue;
+            }
+
             if (group == POISON_PILL) {
-                this.mainBlockSem.release();
                 break;
             }
 
+            busyWorkers.incrementAndGet();
+            stats.start(metrics != null);
             boolean isItemsEmpty = group.items.isEmpty();
             while (!isItemsEmpty) {
                 Object result = null;
                 Throwable panic = null;
 
                 item = group.get();
+                StrandMetrics lifecycleMetrics = strandMetrics;
+                long runStartTime = 0;
+                if (lifecycleMetrics != null) {
+                    runStartTime = System.nanoTime();
+                    lifecycleMetrics.recordQueueLatency(item, runStartTime);
+                }
 
                 try {
                     strandHolder.get().strand = item.future.strand;
@@ -329,6 +507,9 @@ public class Scheduler {
                 } finally {
                     strandHolder.get().strand = previousStrand;
                 }
+                if (lifecycleMetrics != null) {
+                    lifecycleMetrics.recordRunSlice(item, System.nanoTime() - runStartTime);
+                }
                 postProcess(item, result, panic);
                 group.lock();
                 if ((isItemsEmpty = group.items.empty())) {
@@ -336,9 +517,18 @@ public class Scheduler {
                 }
                 group.unlock();
             }
+            stats.stop();
+            busyWorkers.decrementAndGet();
         }
     }
 
+    private ItemGroup takeGroup(int workerId, long keepAliveNanos) throws InterruptedException {
+        if (workStealingQueue != null) {
+            return workStealingQueue.take(workerId, keepAliveNanos);
+        }
+        return keepAliveNanos == 0 ? runnableList.take() : runnableList.poll(keepAliveNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Processes the item after executing for notifying blocked items etc.
      */
@@ -352,8 +542,15 @@ public class Scheduler {
                     item.future.strand.unlock();
                     break;
                 }
+                if (strandMetrics != null) {
+                    item.parkTime = System.nanoTime();
+                }
                 item.parked = true;
                 item.future.strand.unlock();
+                SchedulerMetrics schedulerMetrics = metrics;
+                if (schedulerMetrics != null) {
+                    schedulerMetrics.strandParked();
+                }
                 break;
             case BLOCK_ON_AND_YIELD:
                 WaitContext waitContext = item.future.strand.waitContext;
@@ -409,7 +606,8 @@ public class Scheduler {
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
-                    assert runnableList.isEmpty();
+                    // In work stealing mode the shared list may still hold stale wake up markers.
+                    assert workStealingQueue == null ? runnableList.isEmpty() : workStealingQueue.isEmpty();
 
                     if (!immortal) {
                         poison();
@@ -443,7 +641,15 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            StrandMetrics lifecycleMetrics = strandMetrics;
+            if (lifecycleMetrics != null) {
+                lifecycleMetrics.recordParkTime(strand.schedulerItem, System.nanoTime());
+            }
             reschedule(strand.schedulerItem);
+            SchedulerMetrics schedulerMetrics = metrics;
+            if (schedulerMetrics != null) {
+                schedulerMetrics.strandUnparked();
+            }
         } else {
             // item not returned to scheduler, yet.
             // scheduler will simply reschedule since this is already unlocked.
@@ -454,7 +660,10 @@ public class Scheduler {
 
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
-        justCompleted.frames = null;
+        if (justCompleted.frames != null) {
+            justCompleted.frames.release();
+            justCompleted.frames = null;
+        }
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
     }
@@ -488,6 +697,7 @@ public class Scheduler {
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
+        markRunnable(item);
         group.lock();
         group.add(item);
         // Group maybe not picked by any thread at the moment because,
@@ -495,11 +705,32 @@ public class Scheduler {
         //  2) All others have finished
         // In this case we need to put it back in the runnable list.
         if (group.scheduled.compareAndSet(false, true)) {
-            runnableList.add(group);
+            enqueue(group);
         }
         group.unlock();
     }
 
+    private void markRunnable(SchedulerItem item) {
+        if (strandMetrics != null) {
+            item.enqueueTime = System.nanoTime();
+        }
+    }
+
+    /**
+     * Hands over a group for execution. In work stealing mode, groups scheduled from a worker thread of this
+     * scheduler are kept in that worker's own queue, while all others go to the shared runnable list.
+     */
+    private void enqueue(ItemGroup group) {
+        if (workStealingQueue != null) {
+            StrandHolder holder = strandHolder.get();
+            if (holder.scheduler == this) {
+                workStealingQueue.push(holder.workerId, group);
+                return;
+            }
+        }
+        runnableList.add(group);
+    }
+
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
                                     Type constraint, String name, StrandMetadata metadata) {
         Strand newStrand = new Strand(name, metadata, this, parent, properties);
@@ -515,11 +746,14 @@ public class Scheduler {
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
         FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
+        future.strand.frames = new FrameStack();
         return future;
     }
 
     public void poison() {
+        synchronized (workers) {
+            terminated = true;
+        }
         for (int i = 0; i < numThreads; i++) {
             runnableList.add(POISON_PILL);
         }
@@ -541,6 +775,9 @@ public class Scheduler {
     }
 
     private static int getPoolSize() {
+        if (virtualThreadFactory != null) {
+            poolSize = VIRTUAL_THREAD_POOL_SIZE;
+        }
         try {
             if (poolSizeConf != null) {
                 poolSize = Integer.parseInt(poolSizeConf);
@@ -553,6 +790,109 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static ThreadFactory getVirtualThreadFactory() {
+        if (!RuntimeConstants.STRAND_EXECUTOR_VIRTUAL.equalsIgnoreCase(strandExecutorConf)) {
+            return null;
+        }
+        ThreadFactory threadFactory = BLangThreadFactory.createVirtualThreadFactory("jbal-strand-vexec");
+        if (threadFactory == null) {
+            // Log and continue with platform threads
+            err.println("ballerina: virtual threads are not supported by the current Java runtime, ignoring " +
+                    RuntimeConstants.BALLERINA_STRAND_EXECUTOR_ENV_VAR + "=" + strandExecutorConf);
+        }
+        return threadFactory;
+    }
+
+    private static int getMinPoolSize(int numThreads) {
+        try {
+            if (minPoolSizeConf != null) {
+                return Math.max(1, Math.min(numThreads, Integer.parseInt(minPoolSizeConf)));
+            }
+        } catch (Throwable t) {
+            // Log and continue with a fixed size pool
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                    RuntimeConstants.BALLERINA_MIN_POOL_SIZE_ENV_VAR + ", " + t.getMessage());
+        }
+        return numThreads;
+    }
+
+    private static boolean isWorkStealingEnabled() {
+        return RuntimeConstants.SCHEDULER_MODE_WORK_STEALING.equalsIgnoreCase(schedulerModeConf);
+    }
+
+    /**
+     * Registers the saturation metrics of this scheduler, such as the runnable queue depth, strands in flight,
+     * park/unpark counts and per worker utilisation, in the given registry. The strand lifecycle metrics are also
+     * registered if the BALLERINA_STRAND_METRICS system variable is set to true.
+     *
+     * @param registry metric registry to register the scheduler metrics
+     */
+    public synchronized void registerMetrics(MetricRegistry registry) {
+        if (metrics == null) {
+            metrics = new SchedulerMetrics(this, registry);
+            if (Boolean.parseBoolean(strandMetricsConf)) {
+                strandMetrics = new StrandMetrics(registry);
+            }
+        }
+    }
+
+    boolean isTerminated() {
+        synchronized (workers) {
+            return terminated;
+        }
+    }
+
+    int getRunnableQueueDepth() {
+        int depth = runnableList.size();
+        if (workStealingQueue != null) {
+            depth += workStealingQueue.size();
+        }
+        return depth;
+    }
+
+    int getStrandsInFlight() {
+        return totalStrands.get();
+    }
+
+    int getLiveWorkers() {
+        synchronized (workers) {
+            return liveWorkers;
+        }
+    }
+
+    int getBusyWorkers() {
+        return busyWorkers.get();
+    }
+
+    /**
+     * Counts the workers that are running a strand but are not on CPU, e.g. waiting in a blocking Java call.
+     */
+    int getBlockedWorkers() {
+        int blocked = 0;
+        synchronized (workers) {
+            for (int i = 0; i < numThreads; i++) {
+                Thread worker = workers[i];
+                if (worker == null || !workerStats[i].busy) {
+                    continue;
+                }
+                Thread.State state = worker.getState();
+                if (state == Thread.State.BLOCKED || state == Thread.State.WAITING ||
+                        state == Thread.State.TIMED_WAITING) {
+                    blocked++;
+                }
+            }
+        }
+        return blocked;
+    }
+
+    int getMaxPoolSize() {
+        return numThreads;
+    }
+
+    WorkerStats getWorkerStats(int workerId) {
+        return workerStats[workerId];
+    }
+
     /**
      * The registry for runtime dynamic listeners.
      */
@@ -589,6 +929,12 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    /**
+     * Times at which the item last became runnable and got parked, only tracked when strand metrics are enabled.
+     */
+    long enqueueTime;
+    long parkTime;
+    StrandMetrics.Timers timers;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
@@ -671,3 +1017,48 @@ class ItemGroup {
         this.groupLock.unlock();
     }
 }
+
+/**
+ * Keeps track of whether a worker is running a strand group and for how long, updated only by the worker itself.
+ */
+class WorkerStats {
+
+    volatile boolean busy;
+    private volatile long busySince;
+    private volatile long busyNanos;
+    private long lastSampledBusyNanos;
+    private long lastSampleTime;
+
+    void start(boolean trackTime) {
+        busy = true;
+        if (trackTime) {
+            busySince = System.nanoTime();
+        }
+    }
+
+    void stop() {
+        long since = busySince;
+        if (since != 0) {
+            busyNanos += System.nanoTime() - since;
+            busySince = 0;
+        }
+        busy = false;
+    }
+
+    /**
+     * Returns the fraction of time this worker was running strands since the previous sample.
+     */
+    synchronized double sampleUtilisation() {
+        long now = System.nanoTime();
+        long busyTime = busyNanos;
+        long since = busySince;
+        if (since != 0) {
+            busyTime += now - since;
+        }
+        double utilisation = lastSampleTime == 0 ? 0 :
+                (double) (busyTime - lastSampledBusyNanos) / (now - lastSampleTime);
+        lastSampledBusyNanos = busyTime;
+        lastSampleTime = now;
+        return Math.max(0, Math.min(1, utilisation));
+    }
+}
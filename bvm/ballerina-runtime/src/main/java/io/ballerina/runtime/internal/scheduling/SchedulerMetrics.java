@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Saturation metrics of a {@link Scheduler}, registered once metrics are enabled.
+ *
+ * @since 2201.2.0
+ */
+class SchedulerMetrics {
+
+    private static final String TAG_KEY_WORKER = "worker";
+
+    private final Counter parkedStrands;
+    private final Counter unparkedStrands;
+
+    SchedulerMetrics(Scheduler scheduler, MetricRegistry registry) {
+        Set<Tag> tags = Collections.emptySet();
+        registry.polledGauge(new MetricId("scheduler_runnable_queue_depth",
+                "Number of strand groups waiting to be run", tags), scheduler, Scheduler::getRunnableQueueDepth);
+        registry.polledGauge(new MetricId("scheduler_strands_in_flight",
+                "Number of strands that are started but not completed", tags), scheduler,
+                Scheduler::getStrandsInFlight);
+        registry.polledGauge(new MetricId("scheduler_pool_size",
+                "Number of live scheduler worker threads", tags), scheduler, Scheduler::getLiveWorkers);
+        registry.polledGauge(new MetricId("scheduler_busy_workers",
+                "Number of worker threads running strands", tags), scheduler, Scheduler::getBusyWorkers);
+        registry.polledGauge(new MetricId("scheduler_blocked_workers",
+                "Number of worker threads blocked while running strands", tags), scheduler,
+                Scheduler::getBlockedWorkers);
+        this.parkedStrands = registry.counter(new MetricId("scheduler_strands_parked_total",
+                "Total number of strands parked waiting to be unblocked", tags));
+        this.unparkedStrands = registry.counter(new MetricId("scheduler_strands_unparked_total",
+                "Total number of parked strands unblocked", tags));
+        for (int i = 0; i < scheduler.getMaxPoolSize(); i++) {
+            registry.polledGauge(new MetricId("scheduler_worker_utilisation",
+                    "Fraction of time a worker thread spent running strands since the last sample",
+                    Collections.singleton(Tag.of(TAG_KEY_WORKER, String.valueOf(i)))),
+                    scheduler.getWorkerStats(i), WorkerStats::sampleUtilisation);
+        }
+    }
+
+    void strandParked() {
+        parkedStrands.increment();
+    }
+
+    void strandUnparked() {
+        unparkedStrands.increment();
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BLock;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -63,7 +64,7 @@ public class Strand {
     private String name;
     private StrandMetadata metadata;
 
-    public Stack<Object> frames;
+    public FrameStack frames;
     public int resumeIndex;
     public Object returnValue;
     public BError panic;
@@ -75,6 +76,8 @@ public class Strand {
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public boolean cancel;
+    // Locks held by the strand, created when it first acquires a lock
+    public List<BLock> acquiredLocks;
 
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
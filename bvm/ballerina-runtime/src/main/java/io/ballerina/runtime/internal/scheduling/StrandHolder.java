@@ -23,4 +23,9 @@ package io.ballerina.runtime.internal.scheduling;
  */
 class StrandHolder {
     Strand strand;
+    /**
+     * Scheduler that owns the current thread as a worker, if any.
+     */
+    Scheduler scheduler;
+    int workerId = -1;
 }
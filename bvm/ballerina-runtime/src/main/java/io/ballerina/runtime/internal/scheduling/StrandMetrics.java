@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
+
+/**
+ * Lifecycle metrics of the strands run by a {@link Scheduler}, registered once metrics are enabled and the
+ * BALLERINA_STRAND_METRICS system variable is set to true.
+ * <p>
+ * Records how long strands wait to be run after they become runnable, how long they run before yielding or
+ * completing, and how long they stay parked waiting to be unblocked. The durations are recorded in seconds per
+ * module, type and function that started the strand, as given by its {@link StrandMetadata}.
+ *
+ * @since 2201.2.0
+ */
+class StrandMetrics {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MetricRegistry registry;
+    private final Map<List<String>, Timers> timers = new ConcurrentHashMap<>();
+
+    StrandMetrics(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    void recordQueueLatency(SchedulerItem item, long now) {
+        long enqueueTime = item.enqueueTime;
+        if (enqueueTime != 0) {
+            getTimers(item).queueLatency.setValue((now - enqueueTime) / 1E9);
+            item.enqueueTime = 0;
+        }
+    }
+
+    void recordRunSlice(SchedulerItem item, long nanos) {
+        getTimers(item).runSlice.setValue(nanos / 1E9);
+    }
+
+    void recordParkTime(SchedulerItem item, long now) {
+        long parkTime = item.parkTime;
+        if (parkTime != 0) {
+            getTimers(item).parkTime.setValue((now - parkTime) / 1E9);
+            item.parkTime = 0;
+        }
+    }
+
+    private Timers getTimers(SchedulerItem item) {
+        // Resolved once per strand, so that the metrics are not looked up on every run.
+        Timers itemTimers = item.timers;
+        if (itemTimers == null) {
+            StrandMetadata metadata = item.future.strand.getMetadata();
+            List<String> key = metadata == null ? Arrays.asList(UNKNOWN, null, UNKNOWN) :
+                    Arrays.asList(metadata.getModuleOrg() + "/" + metadata.getModuleName() + ":" +
+                            metadata.getModuleVersion(), metadata.getTypeName(), metadata.getParentFunctionName());
+            itemTimers = timers.computeIfAbsent(key, this::createTimers);
+            item.timers = itemTimers;
+        }
+        return itemTimers;
+    }
+
+    private Timers createTimers(List<String> key) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(Tag.of(TAG_KEY_SRC_MODULE, key.get(0)));
+        if (key.get(1) != null) {
+            tags.add(Tag.of(TAG_KEY_SRC_OBJECT_NAME, key.get(1)));
+        }
+        tags.add(Tag.of(TAG_KEY_SRC_FUNCTION_NAME, String.valueOf(key.get(2))));
+        return new Timers(
+                registry.gauge(new MetricId("scheduler_strand_queue_latency_seconds",
+                        "Time strands waited to be run after becoming runnable", tags), StatisticConfig.DEFAULT),
+                registry.gauge(new MetricId("scheduler_strand_run_seconds",
+                        "Time strands ran before yielding or completing", tags), StatisticConfig.DEFAULT),
+                registry.gauge(new MetricId("scheduler_strand_park_seconds",
+                        "Time strands stayed parked waiting to be unblocked", tags), StatisticConfig.DEFAULT));
+    }
+
+    /**
+     * Metrics of the strands started by a single function.
+     */
+    static class Timers {
+
+        private final Gauge queueLatency;
+        private final Gauge runSlice;
+        private final Gauge parkTime;
+
+        private Timers(Gauge queueLatency, Gauge runSlice, Gauge parkTime) {
+            this.queueLatency = queueLatency;
+            this.runSlice = runSlice;
+            this.parkTime = parkTime;
+        }
+    }
+}
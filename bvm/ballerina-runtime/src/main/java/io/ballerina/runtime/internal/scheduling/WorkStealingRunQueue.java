@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run queues used by the {@link Scheduler} in work stealing mode.
+ * <p>
+ * Each worker thread owns a deque. Groups scheduled from a running strand are pushed to the head of the deque of
+ * the worker running that strand, and the owner keeps taking from the head to benefit from locality. Groups
+ * scheduled from outside the worker threads go to the shared queue of the scheduler. A worker that runs out of work
+ * checks the shared queue and then steals from the tail of the other workers' deques before blocking on the shared
+ * queue.
+ *
+ * @since 2201.2.0
+ */
+class WorkStealingRunQueue {
+
+    /**
+     * Marker added to the shared queue to wake up a blocked worker, so that it can steal a locally pushed group.
+     */
+    static final ItemGroup WAKE_UP = new ItemGroup();
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+    private final BlockingQueue<ItemGroup> sharedQueue;
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers, BlockingQueue<ItemGroup> sharedQueue) {
+        this.sharedQueue = sharedQueue;
+        this.localQueues = new ConcurrentLinkedDeque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    /**
+     * Push a group to the deque of the given worker. Must only be called from the thread of that worker.
+     *
+     * @param worker index of the current worker
+     * @param group  group to be executed
+     */
+    void push(int worker, ItemGroup group) {
+        localQueues[worker].addFirst(group);
+        // A worker that is about to block may have already missed this group, so wake one up to steal it.
+        if (idleWorkers.get() > 0) {
+            sharedQueue.add(WAKE_UP);
+        }
+    }
+
+    /**
+     * Take the next group for the given worker, blocking until one is available.
+     *
+     * @param worker index of the current worker
+     * @return next group to execute
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take(int worker) throws InterruptedException {
+        return take(worker, 0);
+    }
+
+    /**
+     * Take the next group for the given worker, waiting up to the given time until one is available.
+     *
+     * @param worker       index of the current worker
+     * @param timeoutNanos maximum time to wait in nanoseconds, or 0 to wait indefinitely
+     * @return next group to execute, or null if the waiting time elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take(int worker, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                return group;
+            }
+            idleWorkers.incrementAndGet();
+            try {
+                // Recheck after announcing that this worker is idle to avoid missing a concurrent local push.
+                group = poll(worker);
+                if (group == null) {
+                    group = timeoutNanos == 0 ? sharedQueue.take() :
+                            sharedQueue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                }
+            } finally {
+                idleWorkers.decrementAndGet();
+            }
+            if (group != WAKE_UP) {
+                return group;
+            }
+        }
+    }
+
+    private ItemGroup poll(int worker) {
+        ItemGroup group = localQueues[worker].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        while ((group = sharedQueue.poll()) != null) {
+            if (group != WAKE_UP) {
+                return group;
+            }
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(int worker) {
+        int numWorkers = localQueues.length;
+        for (int i = 1; i < numWorkers; i++) {
+            ItemGroup group = localQueues[(worker + i) % numWorkers].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentLinkedDeque<ItemGroup> localQueue : localQueues) {
+            size += localQueue.size();
+        }
+        return size;
+    }
+
+    boolean isEmpty() {
+        for (ConcurrentLinkedDeque<ItemGroup> localQueue : localQueues) {
+            if (!localQueue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -50,13 +50,12 @@ import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
@@ -96,6 +95,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private Type type;
     private final Map<String, Object> nativeData = new HashMap<>();
     private Type iteratorNextReturnType;
+    // Type of the key value tuples returned by the iterators, shared by all the entries.
+    private BTupleType iteratorEntryType;
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -522,6 +523,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         }
 
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
+        // The iterator types were derived from the mutable type.
+        this.iteratorNextReturnType = null;
+        this.iteratorEntryType = null;
 
         this.values().forEach(val -> {
             if (val instanceof RefValue) {
@@ -545,7 +549,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
     @Override
     public IteratorValue getIterator() {
-        return new MapIterator<>(new LinkedHashSet<>(this.entrySet()).iterator());
+        if (iteratorEntryType == null) {
+            iteratorEntryType = new BTupleType(Arrays.asList(PredefinedTypes.TYPE_STRING, getIteratorValueType()));
+        }
+        return new MapIterator<>(new ArrayList<>(this.entrySet()).iterator(), iteratorEntryType);
     }
 
     /**
@@ -556,25 +563,17 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     static class MapIterator<K, V> implements IteratorValue {
 
         Iterator<Map.Entry<K, V>> iterator;
+        BTupleType entryType;
 
-        MapIterator(Iterator<Map.Entry<K, V>> iterator) {
+        MapIterator(Iterator<Map.Entry<K, V>> iterator, BTupleType entryType) {
             this.iterator = iterator;
+            this.entryType = entryType;
         }
 
         @Override
         public Object next() {
             Map.Entry<?, ?> next = iterator.next();
-            Object value = next.getValue();
-
-            List<Type> types = new LinkedList<>();
-            types.add(PredefinedTypes.TYPE_STRING);
-            types.add(TypeChecker.getType(value));
-            BTupleType tupleType = new BTupleType(types);
-
-            TupleValueImpl tuple = new TupleValueImpl(tupleType);
-            tuple.add(0, next.getKey());
-            tuple.add(1, value);
-            return tuple;
+            return new TupleValueImpl(new Object[]{next.getKey(), next.getValue()}, entryType);
         }
 
         @Override
@@ -617,6 +616,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     private void initializeIteratorNextReturnType() {
+        iteratorNextReturnType = IteratorUtils.createIteratorNextReturnType(getIteratorValueType());
+    }
+
+    private Type getIteratorValueType() {
         Type type;
         if (this.type.getTag() == PredefinedTypes.TYPE_MAP.getTag()) {
             BMapType mapType = (BMapType) this.type;
@@ -634,7 +637,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
                 type = new BUnionType(new ArrayList<>(types));
             }
         }
-        iteratorNextReturnType = IteratorUtils.createIteratorNextReturnType(type);
+        return type;
     }
 
     public Type getIteratorNextReturnType() {
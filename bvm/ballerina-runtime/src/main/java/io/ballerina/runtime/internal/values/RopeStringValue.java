@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * Represent ballerina strings built by concatenating other strings.
+ * <p>
+ * The characters are kept in a buffer that can be shared by many strings, each of which is a prefix of the buffer.
+ * Concatenating to the string that ends at the end of the buffer appends to the buffer instead of copying it, so
+ * building a string by repeated concatenation takes amortised constant time per concatenation. The positions of
+ * the surrogate pairs are tracked in the buffer as it grows. The string is flattened into a
+ * {@link BmpStringValue} or a {@link NonBmpStringValue} on first access to its characters.
+ *
+ * @since 2201.2.0
+ */
+public class RopeStringValue extends StringValue {
+
+    /**
+     * Minimum number of chars in the result of a concatenation for it to be represented as a rope. Shorter strings
+     * are cheap enough to copy.
+     */
+    static final int MIN_ROPE_LENGTH = 256;
+
+    private final Buffer buffer;
+    private final int charLength;
+    private final int surrogateCount;
+    private StringValue flattened;
+
+    private RopeStringValue(Buffer buffer, int charLength, int surrogateCount) {
+        super(null, surrogateCount > 0);
+        this.buffer = buffer;
+        this.charLength = charLength;
+        this.surrogateCount = surrogateCount;
+    }
+
+    /**
+     * Concatenate two strings whose combined length is at least {@link #MIN_ROPE_LENGTH} chars.
+     *
+     * @param left  string to be concatenated to
+     * @param right string to concatenate
+     * @return concatenated string
+     */
+    static BString concat(StringValue left, StringValue right) {
+        if (left instanceof RopeStringValue) {
+            RopeStringValue rope = (RopeStringValue) left;
+            RopeStringValue result = rope.buffer.append(rope.charLength, right);
+            if (result != null) {
+                return result;
+            }
+        }
+        // Either the left string is not a rope, or another string has already been appended to its buffer.
+        Buffer buffer = new Buffer(left.charLength() + right.charLength());
+        buffer.append(0, left);
+        return buffer.append(left.charLength(), right);
+    }
+
+    @Override
+    int charLength() {
+        return charLength;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return charLength - surrogateCount;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return concat(this, (StringValue) str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return flatten().getIterator();
+    }
+
+    StringValue flatten() {
+        // Strings may be shared between strands, but flattening more than once is harmless.
+        StringValue flat = flattened;
+        if (flat == null) {
+            flat = buffer.flatten(charLength, surrogateCount);
+            flattened = flat;
+        }
+        return flat;
+    }
+
+    /**
+     * Characters of the ropes sharing the buffer, with the code point indexes of the surrogate pairs among them.
+     */
+    private static class Buffer {
+
+        private final StringBuilder chars;
+        private int[] surrogates = new int[0];
+        private int surrogateCount = 0;
+
+        private Buffer(int capacity) {
+            this.chars = new StringBuilder(capacity);
+        }
+
+        /**
+         * Append a string to the buffer if it still ends at the given position.
+         *
+         * @param position expected length of the buffer
+         * @param str      string to append
+         * @return the rope ending at the end of the appended string, or null if the buffer has grown past the
+         * given position
+         */
+        synchronized RopeStringValue append(int position, StringValue str) {
+            if (chars.length() != position) {
+                return null;
+            }
+            int codePointOffset = position - surrogateCount;
+            StringValue flat = str instanceof RopeStringValue ? ((RopeStringValue) str).flatten() : str;
+            chars.append(flat.value);
+            if (flat.isNonBmp) {
+                int[] otherSurrogates = ((NonBmpStringValue) flat).getSurrogates();
+                if (surrogateCount + otherSurrogates.length > surrogates.length) {
+                    surrogates = Arrays.copyOf(surrogates,
+                            Math.max(surrogates.length * 2, surrogateCount + otherSurrogates.length));
+                }
+                for (int surrogate : otherSurrogates) {
+                    surrogates[surrogateCount++] = surrogate + codePointOffset;
+                }
+            }
+            return new RopeStringValue(this, chars.length(), surrogateCount);
+        }
+
+        synchronized StringValue flatten(int charLength, int surrogateCount) {
+            String value = chars.substring(0, charLength);
+            if (surrogateCount == 0) {
+                return new BmpStringValue(value);
+            }
+            return new NonBmpStringValue(value, Arrays.copyOf(surrogates, surrogateCount));
+        }
+    }
+}
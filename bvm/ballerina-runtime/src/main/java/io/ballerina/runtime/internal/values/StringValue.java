@@ -39,6 +39,15 @@ public abstract class StringValue implements BString, SimpleValue {
         this.isNonBmp = isNonBmp;
     }
 
+    /**
+     * Returns the number of chars in this string, which is more than its length if it has surrogate pairs.
+     *
+     * @return number of chars
+     */
+    int charLength() {
+        return value.length();
+    }
+
     @Override
     public Type getType() {
         return PredefinedTypes.TYPE_STRING;
@@ -66,7 +75,7 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -81,12 +90,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -95,7 +104,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString) {
-            return ((BString) str).getValue().equals(value);
+            return ((BString) str).getValue().equals(getValue());
         }
         return false;
     }
@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index on a field of the rows of a {@link TableValueImpl}.
+ * <p>
+ * Rows are identified by their position in the table. Only int and string field values are indexed, rows with any
+ * other value for the field are kept aside and returned by every lookup, so that a lookup always returns a superset
+ * of the matching rows. A hash index supports equality lookups, while a sorted index also supports range lookups.
+ *
+ * @since 2201.2.0
+ */
+class TableIndex {
+
+    private static final Comparator<Object> KEY_COMPARATOR = (lhs, rhs) -> {
+        if (lhs instanceof Long && rhs instanceof Long) {
+            return Long.compare((Long) lhs, (Long) rhs);
+        }
+        if (lhs instanceof BString && rhs instanceof BString) {
+            return ValueComparisonUtils.compareValues(lhs, rhs, "");
+        }
+        // Order ints before strings.
+        return lhs instanceof Long ? -1 : 1;
+    };
+
+    private final BString fieldName;
+    private final boolean sorted;
+    private final Map<Object, RowList> buckets;
+    private final RowList unindexedRows = new RowList();
+
+    TableIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.sorted = sorted;
+        this.buckets = sorted ? new TreeMap<>(KEY_COMPARATOR) : new HashMap<>();
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    void addRow(int row, MapValue<?, ?> value) {
+        Object key = getIndexKey(value.get(fieldName));
+        RowList rows = key == null ? unindexedRows : buckets.computeIfAbsent(key, k -> new RowList());
+        rows.add(row);
+    }
+
+    void removeRow(int row, MapValue<?, ?> value) {
+        Object key = getIndexKey(value.get(fieldName));
+        if (key == null) {
+            unindexedRows.remove(row);
+            return;
+        }
+        RowList rows = buckets.get(key);
+        if (rows != null && rows.remove(row) && rows.size == 0) {
+            buckets.remove(key);
+        }
+    }
+
+    void clear() {
+        buckets.clear();
+        unindexedRows.clear();
+    }
+
+    /**
+     * Returns the positions of the rows that may have the given value for the field, in ascending order.
+     *
+     * @param value field value to look up
+     * @return positions of the candidate rows, or null if the value cannot be looked up in the index
+     */
+    int[] getRows(Object value) {
+        Object key = getIndexKey(value);
+        if (key == null) {
+            return null;
+        }
+        RowList rows = buckets.get(key);
+        if (rows == null) {
+            return unindexedRows.toArray();
+        }
+        return merge(rows, unindexedRows);
+    }
+
+    /**
+     * Returns the positions of the rows that may have a value for the field within the given range, in ascending
+     * order. Must only be called on a sorted index.
+     *
+     * @param lower          lower bound of the range, or null if unbounded
+     * @param lowerInclusive whether the lower bound is part of the range
+     * @param upper          upper bound of the range, or null if unbounded
+     * @param upperInclusive whether the upper bound is part of the range
+     * @return positions of the candidate rows, or null if the bounds cannot be looked up in the index
+     */
+    int[] getRows(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        Object lowerKey = getIndexKey(lower);
+        Object upperKey = getIndexKey(upper);
+        if ((lower != null && lowerKey == null) || (upper != null && upperKey == null)) {
+            return null;
+        }
+        NavigableMap<Object, RowList> range = (NavigableMap<Object, RowList>) buckets;
+        if (lowerKey != null) {
+            range = range.tailMap(lowerKey, lowerInclusive);
+        }
+        if (upperKey != null) {
+            range = range.headMap(upperKey, upperInclusive);
+        }
+        return collect(range.values());
+    }
+
+    private int[] collect(Collection<RowList> rowLists) {
+        int count = unindexedRows.size;
+        for (RowList rows : rowLists) {
+            count += rows.size;
+        }
+        int[] result = new int[count];
+        int i = 0;
+        for (RowList rows : rowLists) {
+            System.arraycopy(rows.rows, 0, result, i, rows.size);
+            i += rows.size;
+        }
+        System.arraycopy(unindexedRows.rows, 0, result, i, unindexedRows.size);
+        // Restore the table order of the rows.
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static int[] merge(RowList first, RowList second) {
+        int[] result = new int[first.size + second.size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.size && j < second.size) {
+            result[k++] = first.rows[i] < second.rows[j] ? first.rows[i++] : second.rows[j++];
+        }
+        while (i < first.size) {
+            result[k++] = first.rows[i++];
+        }
+        while (j < second.size) {
+            result[k++] = second.rows[j++];
+        }
+        return result;
+    }
+
+    private static Object getIndexKey(Object value) {
+        if (value instanceof Long || value instanceof BString) {
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * Row positions kept in ascending order.
+     */
+    private static class RowList {
+
+        private int[] rows = new int[2];
+        private int size = 0;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            // Rows are usually appended to the table, so check the last position first.
+            if (size == 0 || rows[size - 1] < row) {
+                rows[size++] = row;
+                return;
+            }
+            int index = Arrays.binarySearch(rows, 0, size, row);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            System.arraycopy(rows, index, rows, index + 1, size - index);
+            rows[index] = row;
+            size++;
+        }
+
+        boolean remove(int row) {
+            int index = Arrays.binarySearch(rows, 0, size, row);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
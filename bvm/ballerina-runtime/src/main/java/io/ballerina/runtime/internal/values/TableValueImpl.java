@@ -17,13 +17,16 @@
 
 package io.ballerina.runtime.internal.values;
 
+import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BLink;
@@ -53,19 +56,19 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.ITERATOR_MUTABILITY_ERROR;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_ERROR;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.TABLE_HAS_A_VALUE_FOR_KEY_ERROR;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.TABLE_KEY_NOT_FOUND_ERROR;
@@ -81,20 +84,45 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_ROW_CAPACITY = 8;
+    private static final int DELETED_SLOT = -1;
+    // Tables smaller than this are scanned rather than indexed by the lookups of the query expressions.
+    private static final int MIN_ROWS_TO_AUTO_INDEX = 32;
+    private static final BString MUTATED_TABLE_ERROR_DETAIL =
+            StringUtils.fromString("Table was mutated after the iterator was created");
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
-    private LinkedHashMap<Long, K> keys;
+    // Type of the key value tuples returned by the iterators, shared by all the rows.
+    private BTupleType iteratorEntryType;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, K> indexToKeyMap;
-    private LinkedHashMap<K, Long> keyToIndexMap;
-    private LinkedHashMap<K, V> keyValues;
-    private long noOfAddedEntries = 0;
+    // Rows are stored in insertion order. A removed row leaves an empty slot behind until the rows are compacted, so
+    // that the positions used by the iterators remain stable. The key and the key hash of a row are only set for
+    // tables with a key sequence.
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private long[] rowHashes;
+    // Monotonically increasing per added row. Used by the iterators to find their position after a compaction.
+    private long[] rowSequences;
+    private int rowCount = 0;
+    private int size = 0;
+    private long nextRowSequence = 0;
+    private int compactionCount = 0;
+    // Incremented whenever a row is added or removed, so that the iterators can cheaply detect a mutation.
+    private int modificationCount = 0;
+    // Incremented whenever the value of an existing row is replaced.
+    private int replacementCount = 0;
+
+    // Open addressing index from the key hash to the row position plus one. An empty slot is zero and a removed
+    // entry is marked with DELETED_SLOT.
+    private int[] keyIndex;
+    private int usedKeyIndexSlots = 0;
+
+    // Secondary indexes on the fields of the rows
+    private Map<String, TableIndex> fieldIndexes;
 
     private boolean nextKeySupported;
 
@@ -103,14 +131,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     public TableValueImpl(TableType type) {
         this.type = type;
-
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (type.getFieldNames().length > 0) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
@@ -141,7 +162,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>();
+        return new TableIterator();
     }
 
     @Override
@@ -233,19 +254,25 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(size);
+        for (int i = 0; i < rowCount; i++) {
+            V value = (V) rowValues[i];
+            if (value != null) {
+                // Rows of a table without a key sequence are keyed by themselves.
+                K key = rowKeys == null ? (K) value : (K) rowKeys[i];
+                entrySet.add(new AbstractMap.SimpleEntry<>(key, value));
+            }
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(size);
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                newValues.add((V) rowValues[i]);
+            }
         }
         return newValues;
     }
@@ -253,12 +280,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rowKeys = null;
+        rowValues = null;
+        rowHashes = null;
+        rowSequences = null;
+        rowCount = 0;
+        size = 0;
+        keyIndex = null;
+        usedKeyIndexSlots = 0;
+        compactionCount++;
+        modificationCount++;
+        if (fieldIndexes != null) {
+            fieldIndexes.values().forEach(TableIndex::clear);
+        }
     }
 
     @Override
@@ -287,13 +321,85 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
         return this.valueHolder.getKeyType();
     }
 
+    /**
+     * Create a secondary index on the given field of the rows. Only fields that cannot be updated once the row is
+     * added to the table, i.e. readonly fields or fields of immutable rows, can be indexed.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether the index should support range lookups in addition to equality lookups
+     * @return true if the field is indexed, false if the field cannot be indexed
+     */
+    public synchronized boolean createIndex(BString fieldName, boolean sorted) {
+        if (hasIndex(fieldName, sorted)) {
+            return true;
+        }
+        if (!isIndexableField(fieldName.getValue())) {
+            return false;
+        }
+        if (fieldIndexes == null) {
+            fieldIndexes = new HashMap<>();
+        }
+        TableIndex index = new TableIndex(fieldName, sorted);
+        populateIndex(index);
+        fieldIndexes.put(fieldName.getValue(), index);
+        return true;
+    }
+
+    /**
+     * Returns an iterator over the rows that may have the given value for the field, in table order, using a
+     * secondary index on the field. The index is created if the table does not have one yet. The iterated rows are a
+     * superset of the matching rows, so they still need to be filtered.
+     *
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @return iterator over the candidate rows, or null if the lookup cannot be done using an index
+     */
+    public synchronized Iterator<V> getRowsWithFieldValue(BString fieldName, Object value) {
+        if (!hasIndex(fieldName, false) && (size < MIN_ROWS_TO_AUTO_INDEX || !createIndex(fieldName, false))) {
+            return null;
+        }
+        TableIndex index = fieldIndexes.get(fieldName.getValue());
+        return createIndexedRowIterator(() -> index.getRows(value));
+    }
+
+    /**
+     * Returns an iterator over the rows that may have a value for the field within the given range, in table order,
+     * using a sorted secondary index on the field. The index is created if the table does not have one yet. The
+     * iterated rows are a superset of the matching rows, so they still need to be filtered.
+     *
+     * @param fieldName      name of the field
+     * @param lower          lower bound of the range, or null if unbounded
+     * @param lowerInclusive whether the lower bound is part of the range
+     * @param upper          upper bound of the range, or null if unbounded
+     * @param upperInclusive whether the upper bound is part of the range
+     * @return iterator over the candidate rows, or null if the lookup cannot be done using an index
+     */
+    public synchronized Iterator<V> getRowsInFieldRange(BString fieldName, Object lower, boolean lowerInclusive,
+                                                        Object upper, boolean upperInclusive) {
+        if (!hasIndex(fieldName, true) && (size < MIN_ROWS_TO_AUTO_INDEX || !createIndex(fieldName, true))) {
+            return null;
+        }
+        TableIndex index = fieldIndexes.get(fieldName.getValue());
+        return createIndexedRowIterator(() -> index.getRows(lower, lowerInclusive, upper, upperInclusive));
+    }
+
+    private Iterator<V> createIndexedRowIterator(Supplier<int[]> lookup) {
+        int[] positions = lookup.get();
+        return positions == null ? null : new IndexedRowIterator(lookup, positions);
+    }
+
+    private boolean hasIndex(BString fieldName, boolean sorted) {
+        TableIndex index = fieldIndexes == null ? null : fieldIndexes.get(fieldName.getValue());
+        return index != null && (index.isSorted() || !sorted);
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -315,23 +421,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        Object[] keyArr = new Object[keys.size()];
+        if (rowKeys == null) {
+            return (K[]) new Object[0];
+        }
+        Object[] keyArr = new Object[size];
         int i = 0;
-        for (K key : keys.values()) {
-            keyArr[i] = key;
-            i++;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                keyArr[i] = rowKeys[row];
+                i++;
+            }
         }
         return (K[]) keyArr;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -351,14 +462,16 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         this.type = (BTableType) ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
+        // The iterator types were derived from the mutable type.
+        this.iteratorNextReturnType = null;
+        this.iteratorEntryType = null;
         //we know that values are always RefValues
         this.values().forEach(val -> ((RefValue) val).freezeDirect());
         this.typedesc = createSingletonTypedesc(this);
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -368,44 +481,29 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                sj.add(StringUtils.getStringValue(rowValues[i], new CycleUtils.Node(this, parent)));
             }
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = type.getFieldNames();
         for (int i = 0; i < keysList.length; i++) {
             keyJoiner.add(keysList[i]);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getExpressionStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getExpressionStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                sj.add(StringUtils.getExpressionStringValue(rowValues[i], new CycleUtils.Node(this, parent)));
             }
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
@@ -445,6 +543,31 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return this.type;
     }
 
+    /**
+     * Returns the number of times a row has been added to or removed from this table. The count does not change when
+     * the value of an existing row is replaced.
+     *
+     * @return modification count of the table
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    private BTupleType getIteratorEntryType() {
+        if (iteratorEntryType == null) {
+            Type constraintType = type.getConstrainedType();
+            Type keyType = constraintType;
+            if (valueHolder instanceof KeyHashValueHolder) {
+                keyType = valueHolder.getKeyType();
+                if (keyType == null) {
+                    keyType = PredefinedTypes.TYPE_ANYDATA;
+                }
+            }
+            iteratorEntryType = new BTupleType(Arrays.asList(keyType, constraintType));
+        }
+        return iteratorEntryType;
+    }
+
     public Type getIteratorNextReturnType() {
         if (iteratorNextReturnType == null) {
             iteratorNextReturnType = IteratorUtils.createIteratorNextReturnType(type.getConstrainedType());
@@ -453,38 +576,151 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
-    private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+    private class TableIterator implements IteratorValue {
+        private int cursor;
+        private long lastSequence = -1;
+        private int compactions;
+        private final BTupleType entryType;
 
         TableIterator() {
             this.cursor = 0;
+            this.compactions = compactionCount;
+            this.entryType = getIteratorEntryType();
         }
 
         @Override
         public Object next() {
-            K key = (K) indexToKeyMap.get(cursor);
-            if (key != null) {
-                V value = (V) keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            int row = nextRow();
+            cursor = row + 1;
+            lastSequence = rowSequences[row];
+            Object value = rowValues[row];
+            Object key = rowKeys == null ? value : rowKeys[row];
+            return new TupleValueImpl(new Object[]{key, value}, entryType);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRow() < rowCount;
+        }
+
+        private int nextRow() {
+            if (compactions != compactionCount) {
+                // Rows have been moved, continue from the first row added after the last returned one.
+                cursor = findRowAfter(lastSequence);
+                compactions = compactionCount;
+            }
+            int row = cursor;
+            while (row < rowCount && rowValues[row] == null) {
+                row++;
             }
+            return row;
+        }
+    }
+
+    /**
+     * Iterates the rows found by a lookup using a secondary index, in table order. As with the iterators of
+     * lang.table, adding a row to the table, or removing a row that has not been reached yet, while iterating is an
+     * error. Removing a row that has already been reached is not, and neither is replacing a row, after which the
+     * rows that have not been reached yet are looked up again.
+     */
+    private class IndexedRowIterator implements Iterator<V> {
+
+        private final Supplier<int[]> lookup;
+        private final int initialSize;
+        private final long initialNextRowSequence;
+        private int modifications;
+        private int replacements;
+        // Sequence numbers of the candidate rows, and the number of rows that were in the table after each of them
+        // when the iteration started
+        private long[] candidates;
+        private int[] rowsAfter;
+        private int cursor = 0;
+        private long lastSequence = -1;
+        private int rowsAfterLast;
+
+        IndexedRowIterator(Supplier<int[]> lookup, int[] positions) {
+            this.lookup = lookup;
+            this.initialSize = size;
+            this.initialNextRowSequence = nextRowSequence;
+            this.modifications = modificationCount;
+            this.replacements = replacementCount;
+            this.rowsAfterLast = size;
+            setCandidates(positions);
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            if (modifications != modificationCount) {
+                if (isMutated()) {
+                    throw ErrorCreator.createError(ITERATOR_MUTABILITY_ERROR, MUTATED_TABLE_ERROR_DETAIL);
+                }
+                modifications = modificationCount;
+            }
+            if (replacements != replacementCount) {
+                // A replaced row may no longer match the lookup, or may start matching it.
+                replacements = replacementCount;
+                setCandidates(lookup.get());
+            }
+            return cursor < candidates.length;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastSequence = candidates[cursor];
+            rowsAfterLast = rowsAfter[cursor];
+            cursor++;
+            return (V) rowValues[findRowAfter(lastSequence - 1)];
+        }
+
+        private boolean isMutated() {
+            if (size > initialSize || (initialSize > 0 && size == 0)) {
+                return true;
+            }
+            if (!(valueHolder instanceof KeyHashValueHolder)) {
+                // Rows of a table without a key sequence can only be removed all at once.
+                return false;
+            }
+            // The rows after the last returned row should be the ones that were there when the iteration started.
+            int remaining = rowsAfterLast;
+            for (int row = findRowAfter(lastSequence); row < rowCount; row++) {
+                if (rowValues[row] == null) {
+                    continue;
+                }
+                if (rowSequences[row] >= initialNextRowSequence || --remaining < 0) {
+                    return true;
+                }
+            }
+            return remaining != 0;
+        }
+
+        // Keeps the candidate rows after the last returned row
+        private void setCandidates(int[] positions) {
+            int first = 0;
+            while (first < positions.length && rowSequences[positions[first]] <= lastSequence) {
+                first++;
+            }
+            candidates = new long[positions.length - first];
+            rowsAfter = new int[candidates.length];
+            cursor = 0;
+            int row = rowCount - 1;
+            int after = 0;
+            for (int i = positions.length - 1; i >= first; i--) {
+                int position = positions[i];
+                if (size == rowCount) {
+                    after = rowCount - 1 - position;
+                } else {
+                    for (; row > position; row--) {
+                        if (rowValues[row] != null) {
+                            after++;
+                        }
+                    }
+                }
+                candidates[i - first] = rowSequences[position];
+                rowsAfter[i - first] = after;
+            }
         }
     }
 
@@ -506,18 +742,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entryList);
-            updateIndexKeyMappings((K) data);
-            values.put((long) uuid.hashCode(), newData);
-            keyValues.put((K) data, data);
+            addRow(null, data, 0);
             return data;
         }
 
@@ -553,133 +778,78 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = TableUtils.hash(key, null);
 
-            if (containsKey((K) key)) {
+            if (findKeyIndexSlot(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Long hash = TableUtils.hash(key, null);
-
-            if (keys.containsKey(hash)) {
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                keyValues.put(key, data);
-                updateIndexKeyMappings(key);
-                return;
-            }
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            putData(key, data, newData, entry, hash);
+            addRow(key, data, hash);
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
+            int slot = findKeyIndexSlot(key, TableUtils.hash(key, null));
+            if (slot < 0) {
                 return null;
             }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            return (V) rowValues[keyIndex[slot] - 1];
         }
 
         public V putData(K key, V data) {
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = TableUtils.hash(actualKey, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            return putData(key, data, newData, entry, hash);
+            return putData(key, data, hash);
         }
 
-        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, Long hash) {
-
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            keys.put(hash, key);
-            updateIndexKeyMappings(key);
-            values.put(hash, data);
-            keyValues.put(key, value);
-            return data.get(0);
+        private V putData(K key, V data, long hash) {
+            int slot = findKeyIndexSlot(key, hash);
+            if (slot < 0) {
+                addRow(key, data, hash);
+            } else {
+                // Replace the existing row in place to retain its position in the iteration order.
+                int row = keyIndex[slot] - 1;
+                if (fieldIndexes != null) {
+                    for (TableIndex index : fieldIndexes.values()) {
+                        index.removeRow(row, (MapValue<?, ?>) rowValues[row]);
+                        index.addRow(row, (MapValue<?, ?>) data);
+                    }
+                }
+                rowKeys[row] = key;
+                rowValues[row] = data;
+                replacementCount++;
+            }
+            return data;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, newData, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(key);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
+            int slot = findKeyIndexSlot(key, TableUtils.hash(key, null));
+            if (slot < 0) {
                 return null;
             }
-            return removedValue.get(0);
+            return removeRow(slot);
         }
 
         public boolean containsKey(K key) {
-            if (keys.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return findKeyIndexSlot(key, TableUtils.hash(key, null)) >= 0;
         }
 
         public Type getKeyType() {
@@ -730,15 +900,208 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(K key) {
-        if (!keyToIndexMap.containsKey(key)) {
-            keyToIndexMap.put(key, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, key);
-            noOfAddedEntries++;
+    // Appends a row, and indexes its key when the table has a key sequence
+    private void addRow(K key, V value, long hash) {
+        ensureRowCapacity();
+        int row = rowCount;
+        if (rowKeys != null) {
+            // The key is indexed before the row is counted, since growing the index reindexes the counted rows.
+            insertKeyIndex(hash, row);
+            rowKeys[row] = key;
+            rowHashes[row] = hash;
+        }
+        rowCount++;
+        rowValues[row] = value;
+        rowSequences[row] = nextRowSequence++;
+        size++;
+        modificationCount++;
+        if (fieldIndexes != null) {
+            for (TableIndex index : fieldIndexes.values()) {
+                index.addRow(row, (MapValue<?, ?>) value);
+            }
+        }
+    }
+
+    private V removeRow(int slot) {
+        int row = keyIndex[slot] - 1;
+        keyIndex[slot] = DELETED_SLOT;
+        V value = (V) rowValues[row];
+        if (fieldIndexes != null) {
+            for (TableIndex index : fieldIndexes.values()) {
+                index.removeRow(row, (MapValue<?, ?>) value);
+            }
+        }
+        rowValues[row] = null;
+        rowKeys[row] = null;
+        size--;
+        modificationCount++;
+        return value;
+    }
+
+    private void ensureRowCapacity() {
+        if (rowValues == null) {
+            rowValues = new Object[INITIAL_ROW_CAPACITY];
+            rowSequences = new long[INITIAL_ROW_CAPACITY];
+            if (valueHolder instanceof KeyHashValueHolder) {
+                rowKeys = new Object[INITIAL_ROW_CAPACITY];
+                rowHashes = new long[INITIAL_ROW_CAPACITY];
+            }
+            return;
+        }
+        if (rowCount < rowValues.length) {
+            return;
+        }
+        if (size <= rowCount / 2) {
+            // At least half of the rows have been removed, so reclaim their slots instead of growing.
+            compactRows();
+            return;
+        }
+        int capacity = rowValues.length * 2;
+        rowValues = Arrays.copyOf(rowValues, capacity);
+        rowSequences = Arrays.copyOf(rowSequences, capacity);
+        if (rowKeys != null) {
+            rowKeys = Arrays.copyOf(rowKeys, capacity);
+            rowHashes = Arrays.copyOf(rowHashes, capacity);
+        }
+    }
+
+    private void compactRows() {
+        int live = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] == null) {
+                continue;
+            }
+            rowValues[live] = rowValues[row];
+            rowSequences[live] = rowSequences[row];
+            if (rowKeys != null) {
+                rowKeys[live] = rowKeys[row];
+                rowHashes[live] = rowHashes[row];
+            }
+            live++;
+        }
+        Arrays.fill(rowValues, live, rowCount, null);
+        if (rowKeys != null) {
+            Arrays.fill(rowKeys, live, rowCount, null);
+        }
+        rowCount = live;
+        compactionCount++;
+        if (rowKeys != null) {
+            rebuildKeyIndex(keyIndex.length);
+        }
+        if (fieldIndexes != null) {
+            fieldIndexes.values().forEach(this::populateIndex);
         }
     }
 
+    private void populateIndex(TableIndex index) {
+        index.clear();
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                index.addRow(row, (MapValue<?, ?>) rowValues[row]);
+            }
+        }
+    }
+
+    // Rows can only be indexed by a field whose value cannot change once the row is in the table
+    private boolean isIndexableField(String fieldName) {
+        if (type.isReadOnly()) {
+            return true;
+        }
+        Type constraintType = TypeUtils.getReferredType(type.getConstrainedType());
+        if (constraintType.getTag() == TypeTags.INTERSECTION_TAG) {
+            constraintType = ((BIntersectionType) constraintType).getEffectiveType();
+        }
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        if (constraintType.isReadOnly()) {
+            return true;
+        }
+        Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+        return field != null && SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+    }
+
+    // Returns the key index slot of the row with the given key, or -1 if there is no such row
+    private int findKeyIndexSlot(K key, long hash) {
+        if (keyIndex == null) {
+            return -1;
+        }
+        int mask = keyIndex.length - 1;
+        int slot = spread(hash) & mask;
+        while (true) {
+            int entry = keyIndex[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (entry != DELETED_SLOT) {
+                int row = entry - 1;
+                if (rowHashes[row] == hash && TypeChecker.isEqual(key, rowKeys[row])) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insertKeyIndex(long hash, int row) {
+        if (keyIndex == null) {
+            keyIndex = new int[INITIAL_ROW_CAPACITY * 2];
+        } else if ((usedKeyIndexSlots + 1) * 2 > keyIndex.length) {
+            // Keep the load factor, including removed entries, below one half.
+            int capacity = keyIndex.length;
+            while (capacity < (size + 1) * 4) {
+                capacity *= 2;
+            }
+            rebuildKeyIndex(capacity);
+        }
+        int mask = keyIndex.length - 1;
+        int slot = spread(hash) & mask;
+        while (keyIndex[slot] > 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (keyIndex[slot] == 0) {
+            usedKeyIndexSlots++;
+        }
+        keyIndex[slot] = row + 1;
+    }
+
+    private void rebuildKeyIndex(int capacity) {
+        keyIndex = new int[capacity];
+        usedKeyIndexSlots = 0;
+        int mask = capacity - 1;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] == null) {
+                continue;
+            }
+            int slot = spread(rowHashes[row]) & mask;
+            while (keyIndex[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keyIndex[slot] = row + 1;
+            usedKeyIndexSlots++;
+        }
+    }
+
+    // Returns the position of the first row added after the row with the given sequence number
+    private int findRowAfter(long sequence) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rowSequences[mid] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int spread(long hash) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
+    }
+
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -26,7 +26,11 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import io.opentelemetry.api.common.Attributes;
 
@@ -138,6 +142,14 @@ public class ObserveUtils {
      */
     public static void addObserver(BallerinaObserver observer) {
         observers.add(observer);
+        if (observer instanceof BallerinaMetricsObserver) {
+            // The metrics observer is added from the observe module initialization, which runs on a strand of
+            // the program's scheduler after the metric registry is set up.
+            Strand strand = Scheduler.getStrandNoException();
+            if (strand != null && strand.scheduler != null) {
+                strand.scheduler.registerMetrics(DefaultMetricRegistry.getInstance());
+            }
+        }
     }
 
     /**
@@ -20,6 +20,7 @@ package io.ballerina.runtime.observability;
 import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -101,6 +102,16 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Returns the tags without copying them, unlike {@link #getAllTags()}. The returned collection must not be
+     * modified.
+     *
+     * @return the tags of the context
+     */
+    public Collection<Tag> getTags() {
+        return tags.values();
+    }
+
     public BSpan getSpan() {
         return span;
     }
@@ -22,9 +22,14 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -57,6 +62,24 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    // status_code_group tags of the status codes below 1000, so that they are not created for each observation
+    private static final Tag[] statusCodeGroupTags = new Tag[10];
+
+    /*
+     * The metrics of each set of tags are resolved once and reused by later observations with the same tags, so that
+     * the metric IDs are not created and looked up in the registry for each observation.
+     */
+    private static final ConcurrentMap<Set<Tag>, InProgressMetrics> inProgressMetrics = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Set<Tag>, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+    // Tags of the current observation of each thread, used to look up the resolved metrics
+    private static final ThreadLocal<TagSet> observationTags = ThreadLocal.withInitial(TagSet::new);
+
+    static {
+        for (int i = 0; i < statusCodeGroupTags.length; i++) {
+            statusCodeGroupTags[i] = Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, i + STATUS_CODE_GROUP_SUFFIX);
+        }
+    }
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -87,10 +110,10 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        TagSet tags = observationTags.get();
+        tags.set(observerContext.getTags(), null, null);
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = getInProgressMetrics(tags).inProgressGauge;
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -104,37 +127,185 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
         Map<String, Tag> customTags = observerContext.customMetricTags;
-        if (customTags != null) {
-            tags.addAll(customTags.values());
-        }
-        tags.addAll(observerContext.getAllTags());
 
         // Add status_code_group tag
+        Tag statusCodeGroupTag = null;
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
         if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
+            int statusCodeGroup = statusCode / 100;
+            statusCodeGroupTag = statusCodeGroup < statusCodeGroupTags.length ? statusCodeGroupTags[statusCodeGroup] :
+                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX);
         }
+        TagSet tags = observationTags.get();
+        tags.set(observerContext.getTags(), customTags != null ? customTags.values() : null, statusCodeGroupTag);
 
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics metrics = getResponseMetrics(tags);
+            metrics.responseTimeGauge.setValue(duration / 1E9);
+            metrics.responseTimeTotalCounter.increment(duration);
+            metrics.requestsTotalCounter.increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
     }
 
+    private static InProgressMetrics getInProgressMetrics(TagSet tags) {
+        InProgressMetrics metrics = inProgressMetrics.get(tags);
+        int removalCount = metricRegistry.getRemovalCount();
+        if (metrics != null && metrics.removalCount == removalCount) {
+            return metrics;
+        }
+        if (metrics != null) {
+            // Metrics have been removed from the registry, so the other resolved metrics may be stale as well.
+            inProgressMetrics.clear();
+        }
+        Set<Tag> resolvedTags = tags.copy();
+        metrics = new InProgressMetrics(resolvedTags, removalCount);
+        inProgressMetrics.put(resolvedTags, metrics);
+        return metrics;
+    }
+
+    private static ResponseMetrics getResponseMetrics(TagSet tags) {
+        ResponseMetrics metrics = responseMetrics.get(tags);
+        int removalCount = metricRegistry.getRemovalCount();
+        if (metrics != null && metrics.removalCount == removalCount) {
+            return metrics;
+        }
+        if (metrics != null) {
+            // Metrics have been removed from the registry, so the other resolved metrics may be stale as well.
+            responseMetrics.clear();
+        }
+        Set<Tag> resolvedTags = tags.copy();
+        metrics = new ResponseMetrics(resolvedTags, removalCount);
+        responseMetrics.put(resolvedTags, metrics);
+        return metrics;
+    }
+
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Set of the tags of an observation. It is used as the key of the resolved metrics instead of a hash set. The
+     * set of each thread is refilled for every observation to look up the metrics, and it is copied only when the
+     * metrics of its tags are resolved.
+     */
+    private static final class TagSet extends AbstractSet<Tag> {
+
+        private Tag[] tags;
+        private int size = 0;
+        private int hashCode = 0;
+
+        private TagSet() {
+            this.tags = new Tag[8];
+        }
+
+        private TagSet(Tag[] tags, int hashCode) {
+            this.tags = tags;
+            this.size = tags.length;
+            this.hashCode = hashCode;
+        }
+
+        private void set(Collection<Tag> contextTags, Collection<Tag> customTags, Tag statusCodeGroupTag) {
+            size = 0;
+            hashCode = 0;
+            int maxSize = contextTags.size() + (customTags != null ? customTags.size() : 0) +
+                    (statusCodeGroupTag != null ? 1 : 0);
+            if (tags.length < maxSize) {
+                tags = new Tag[maxSize];
+            }
+            // The tags of the context have distinct keys, so only the other tags can be duplicates.
+            for (Tag tag : contextTags) {
+                addTag(tag);
+            }
+            if (customTags != null) {
+                for (Tag tag : customTags) {
+                    if (!contains(tag)) {
+                        addTag(tag);
+                    }
+                }
+            }
+            if (statusCodeGroupTag != null && !contains(statusCodeGroupTag)) {
+                addTag(statusCodeGroupTag);
+            }
+        }
+
+        private void addTag(Tag tag) {
+            tags[size++] = tag;
+            hashCode += tag.hashCode();
+        }
+
+        private TagSet copy() {
+            return new TagSet(Arrays.copyOf(tags, size), hashCode);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            for (int i = 0; i < size; i++) {
+                if (tags[i].equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Arrays.asList(tags).subList(0, size).iterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Metrics updated when an observation starts, resolved for a set of tags.
+     */
+    private static class InProgressMetrics {
+
+        // Number of removals from the registry when the metrics were resolved
+        private final int removalCount;
+        private final Gauge inProgressGauge;
+
+        private InProgressMetrics(Set<Tag> tags, int removalCount) {
+            this.removalCount = removalCount;
+            this.inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                    tags));
+        }
+    }
+
+    /**
+     * Metrics updated when an observation stops, resolved for a set of tags.
+     */
+    private static class ResponseMetrics {
+
+        // Number of removals from the registry when the metrics were resolved
+        private final int removalCount;
+        private final Gauge responseTimeGauge;
+        private final Counter responseTimeTotalCounter;
+        private final Counter requestsTotalCounter;
+
+        private ResponseMetrics(Set<Tag> tags, int removalCount) {
+            this.removalCount = removalCount;
+            this.responseTimeGauge = metricRegistry.gauge(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            this.responseTimeTotalCounter = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            this.requestsTotalCounter = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
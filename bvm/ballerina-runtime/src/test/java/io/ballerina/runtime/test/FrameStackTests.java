@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.FrameStack;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.EmptyStackException;
+
+/**
+ * Test cases for {@link FrameStack}.
+ */
+public class FrameStackTests {
+
+    @Test
+    void testPushAndPopInReverseOrder() {
+        FrameStack frames = new FrameStack();
+        Assert.assertTrue(frames.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            frames.push(i);
+        }
+        Assert.assertEquals(frames.size(), 100);
+        Assert.assertEquals(frames.peek(), 99);
+        for (int i = 99; i >= 0; i--) {
+            Assert.assertEquals(frames.pop(), i);
+        }
+        Assert.assertTrue(frames.isEmpty());
+    }
+
+    @Test(expectedExceptions = EmptyStackException.class)
+    void testPopOnEmptyStack() {
+        new FrameStack().pop();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.JsonByteParser;
+import io.ballerina.runtime.internal.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link JsonByteParser}.
+ */
+public class JsonByteParserTests {
+
+    @DataProvider
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"a\":1,\"b\":[1,2,{\"c\":\"x\\\"y\\u00e9\\ud83d\\ude00z\"}],\"d\":null,\"e\":true,\"f\":-1.50}"},
+                {"{\"name\": \"h\uD83D\uDE00llo\", \"empty\": {}, \"list\": [ ], \"nested\": {\"a\": [[[false]]]}}"},
+                {"[ 1 , -2 ,\n 3.5e2, -0, -0.0 ]"},
+                {" 123 "},
+                {"\"top level \\n string\""},
+                {"null"},
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    void testParseSameAsCharParser(String json) {
+        Object expected = JsonParser.parse(json);
+        Object actual = JsonByteParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertEquals(StringUtils.getJsonString(actual), StringUtils.getJsonString(expected));
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    void testParseInChunks(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        String expected = StringUtils.getJsonString(JsonParser.parse(json));
+        for (int chunkSize = 1; chunkSize < bytes.length; chunkSize++) {
+            JsonByteParser parser = new JsonByteParser(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+            for (int i = 0; i < bytes.length; i += chunkSize) {
+                parser.feed(bytes, i, Math.min(chunkSize, bytes.length - i));
+            }
+            Assert.assertEquals(StringUtils.getJsonString(parser.finish()), expected, "chunk size: " + chunkSize);
+        }
+    }
+
+    @Test
+    void testDecimalMode() {
+        JsonByteParser parser = new JsonByteParser(JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING);
+        byte[] bytes = "[1, 2.5]".getBytes(StandardCharsets.UTF_8);
+        parser.feed(bytes, 0, bytes.length);
+        Assert.assertEquals(StringUtils.getJsonString(parser.finish()),
+                StringUtils.getJsonString(JsonParser.parse("[1, 2.5]",
+                        JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING)));
+    }
+
+    @DataProvider
+    public Object[][] invalidJsonDocuments() {
+        return new Object[][]{
+                {"", "empty JSON document at line: 1 column: 1"},
+                {"{\"a\" 1}", "expected ':' at line: 1 column: 6"},
+                {"[1 2]", "expected ',' or ']' at line: 1 column: 4"},
+                {"{\"a\":1}\n  }", "JSON document has already ended at line: 2 column: 3"},
+                {"[\"abc", "unexpected end of JSON document at line: 1 column: 6"},
+                {"[nul]", "unrecognized token 'nul' at line: 1 column: 5"},
+                {"[\"\\u12G4\"]", "expected 'hexadecimal value of an unicode character' at line: 1 column: 7"},
+        };
+    }
+
+    @Test(dataProvider = "invalidJsonDocuments")
+    void testInvalidDocuments(String json, String message) {
+        try {
+            JsonByteParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+            Assert.fail("expected the parsing to fail");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), message);
+        }
+    }
+}
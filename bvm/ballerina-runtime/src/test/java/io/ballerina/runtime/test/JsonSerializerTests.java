@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonSerializer;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR;
+
+/**
+ * Test cases for {@link JsonSerializer}.
+ */
+public class JsonSerializerTests {
+
+    @DataProvider
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"a\":1,\"b\":[1,2,{\"c\":\"x\\\"y/\\f\\u00e9\\ud83d\\ude00z\"}],\"d\":null," +
+                        "\"e\":true,\"f\":-1.50}"},
+                {"{\"name\": \"h\uD83D\uDE00llo\", \"empty\": {}, \"list\": [ ], \"nested\": {\"a\": [[[false]]]}}"},
+                {"[1, -9223372036854775808, 9223372036854775807, 3.5e2, -0, -0.0, 0]"},
+                {"\"top level \\n string\""},
+                {"12.50"},
+                {"null"},
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    void testSameAsJsonGenerator(String json) {
+        Object value = JsonParser.parse(json);
+        Assert.assertEquals(serialize(value), StringUtils.getJsonString(value));
+    }
+
+    @Test
+    void testArraysOfSimpleValues() {
+        BMap<BString, Object> map =
+                ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA));
+        map.put(StringUtils.fromString("ints"), ValueCreator.createArrayValue(new long[]{1, -20, Long.MIN_VALUE}));
+        map.put(StringUtils.fromString("floats"), ValueCreator.createArrayValue(new double[]{1.5, -0.0}));
+        map.put(StringUtils.fromString("bytes"), ValueCreator.createArrayValue(new byte[]{0, 127, (byte) 255}));
+        map.put(StringUtils.fromString("booleans"), ValueCreator.createArrayValue(new boolean[]{true, false}));
+        map.put(StringUtils.fromString("strings"),
+                ValueCreator.createArrayValue(new BString[]{StringUtils.fromString("a\tb")}));
+        Assert.assertEquals(serialize(map), "{\"ints\":[1, -20, -9223372036854775808], \"floats\":[1.5, -0.0], " +
+                "\"bytes\":[0, 127, 255], \"booleans\":[true, false], \"strings\":[\"a\\tb\"]}");
+    }
+
+    @Test
+    void testLargeValue() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            builder.append(i == 0 ? "" : ", ").append("{\"id\":").append(i).append(", \"name\":\"\u00e9l\u00e8ve ")
+                    .append(i).append("\"}");
+        }
+        String json = builder.append("]").toString();
+        Object value = JsonParser.parse(json);
+        Assert.assertEquals(serialize(value), json);
+    }
+
+    @Test
+    void testUnpairedSurrogate() {
+        Assert.assertEquals(serialize(StringUtils.fromString("a\uD83Db")), "\"a?b\"");
+    }
+
+    @Test
+    void testCyclicValue() {
+        BMap<BString, Object> map =
+                ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA));
+        map.put(StringUtils.fromString("self"), map);
+        try {
+            serialize(map);
+            Assert.fail("expected an error for the cyclic value");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage(), VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR);
+        }
+    }
+
+    private static String serialize(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serializeAnydata(value, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
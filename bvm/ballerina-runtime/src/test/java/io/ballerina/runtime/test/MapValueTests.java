@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+/**
+ * Test cases for the types of the values returned when iterating a {@link MapValueImpl}.
+ */
+public class MapValueTests {
+
+    @Test
+    void testIteratorEntryType() {
+        ArrayType arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BMap<BString, Object> map = createMap(arrayType);
+
+        Type entryValueType = getEntryValueType(map);
+        Assert.assertSame(entryValueType, arrayType);
+        // The entry type is created once and shared by the iterators of the map.
+        Assert.assertSame(getEntryValueType(map), entryValueType);
+    }
+
+    @Test
+    void testIteratorEntryTypeOfClone() {
+        ArrayType arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BMap<BString, Object> map = createMap(arrayType);
+        Assert.assertSame(getEntryValueType(map), arrayType);
+
+        BMap<?, ?> clone = (BMap<?, ?>) map.copy(new HashMap<>());
+        Assert.assertSame(getEntryValueType(clone), arrayType);
+
+        BMap<?, ?> frozenClone = (BMap<?, ?>) map.frozenCopy(new HashMap<>());
+        Type frozenValueType = ((MapType) frozenClone.getType()).getConstrainedType();
+        Assert.assertTrue(frozenValueType.isReadOnly());
+        Assert.assertSame(getEntryValueType(frozenClone), frozenValueType);
+
+        // Freezing the clone does not change the type of the original map.
+        Assert.assertSame(getEntryValueType(map), arrayType);
+    }
+
+    @Test
+    void testIteratorTypesAfterFreeze() {
+        ArrayType arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        MapValueImpl<BString, Object> map = (MapValueImpl<BString, Object>) createMap(arrayType);
+        Assert.assertSame(getEntryValueType(map), arrayType);
+        Assert.assertSame(getNextReturnValueType(map), arrayType);
+
+        // Freezing the map changes its type, so the types cached before that are not used anymore.
+        map.freezeDirect();
+        Type frozenValueType = ((MapType) map.getType()).getConstrainedType();
+        Assert.assertNotSame(frozenValueType, arrayType);
+        Assert.assertTrue(frozenValueType.isReadOnly());
+        Assert.assertSame(getEntryValueType(map), frozenValueType);
+        Assert.assertSame(getNextReturnValueType(map), frozenValueType);
+    }
+
+    private static BMap<BString, Object> createMap(ArrayType arrayType) {
+        BMap<BString, Object> map = ValueCreator.createMapValue(TypeCreator.createMapType(arrayType));
+        map.put(StringUtils.fromString("a"), ValueCreator.createArrayValue(new long[]{1, 2}));
+        map.put(StringUtils.fromString("b"), ValueCreator.createArrayValue(new long[]{3}));
+        return map;
+    }
+
+    private static Type getEntryValueType(BMap<?, ?> map) {
+        BArray entry = (BArray) map.getIterator().next();
+        return ((TupleType) entry.getType()).getTupleTypes().get(1);
+    }
+
+    private static Type getNextReturnValueType(MapValueImpl<?, ?> map) {
+        return ((RecordType) map.getIteratorNextReturnType()).getFields().get("value").getFieldType();
+    }
+}
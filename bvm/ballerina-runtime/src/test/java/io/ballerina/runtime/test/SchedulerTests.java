@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.BLangThreadFactory;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for running strands on the {@link Scheduler} in each of its modes.
+ */
+public class SchedulerTests {
+
+    private static final int POOL_SIZE = 4;
+    private static final int STRAND_COUNT = 200;
+    private static final StrandMetadata METADATA = new StrandMetadata("test", "scheduler", "1", "test");
+
+    @Test(dataProvider = "schedulerModes", timeOut = 30000)
+    void testStrandsComplete(String mode) {
+        Scheduler scheduler = createScheduler(mode, false);
+        AtomicInteger completedChildren = new AtomicInteger();
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            int value = i;
+            // Each strand schedules a child strand from a worker, which work stealing keeps in the worker's queue.
+            futures.add(scheduler.schedule(new Object[1], (Function<Object[], Object>) params -> {
+                scheduler.schedule(new Object[1], (Function<Object[], Object>) childParams -> {
+                    completedChildren.incrementAndGet();
+                    return null;
+                }, (Strand) params[0], null, "child", METADATA);
+                return (long) value * 2;
+            }, null, null, "parent", METADATA));
+        }
+
+        // The scheduler is not immortal, so it shuts down once all the strands are done.
+        scheduler.start();
+
+        Assert.assertEquals(completedChildren.get(), STRAND_COUNT);
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            FutureValue future = futures.get(i);
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+            Assert.assertEquals(future.result, (long) i * 2);
+            Assert.assertEquals(future.strand.getState(), State.DONE);
+        }
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 30000)
+    void testBlockedStrandsResume(String mode) {
+        Scheduler scheduler = createScheduler(mode, false);
+        CountDownLatch blocked = new CountDownLatch(STRAND_COUNT);
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            AtomicBoolean resumed = new AtomicBoolean();
+            futures.add(scheduler.schedule(new Object[1], (Function<Object[], Object>) params -> {
+                if (resumed.getAndSet(true)) {
+                    return "resumed";
+                }
+                // Yield until another thread unblocks the strand, like a strand waiting on an async call.
+                ((Strand) params[0]).setState(State.BLOCK_AND_YIELD);
+                blocked.countDown();
+                return null;
+            }, null, null, "blocked", METADATA));
+        }
+
+        Thread unblocker = new Thread(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (FutureValue future : futures) {
+                scheduler.unblockStrand(future.strand);
+            }
+        });
+        unblocker.start();
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+            Assert.assertEquals(future.result, "resumed");
+        }
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 30000)
+    void testShutdown(String mode) throws InterruptedException {
+        Scheduler scheduler = createScheduler(mode, true);
+        Thread mainWorker = new Thread(scheduler::start);
+        mainWorker.start();
+
+        // Strands scheduled after the scheduler is started by another thread are run by the workers as well.
+        CountDownLatch completed = new CountDownLatch(STRAND_COUNT);
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                completed.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                Assert.fail(error.getMessage());
+            }
+        };
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            scheduler.schedule(new Object[1], (Function<Object[], Object>) params -> null, null, callback,
+                    "immortal", METADATA);
+        }
+        Assert.assertTrue(completed.await(10, TimeUnit.SECONDS));
+
+        // An immortal scheduler keeps running without strands, until it is poisoned.
+        Assert.assertTrue(mainWorker.isAlive());
+        scheduler.poison();
+        // The calling thread of start() returns only after every worker has stopped.
+        mainWorker.join(10000);
+        Assert.assertFalse(mainWorker.isAlive());
+    }
+
+    @DataProvider
+    Object[][] schedulerModes() {
+        return new Object[][]{
+                {"default"},
+                {"work-stealing"},
+                {"virtual"},
+                {"adaptive"}
+        };
+    }
+
+    private static Scheduler createScheduler(String mode, boolean immortal) {
+        switch (mode) {
+            case "work-stealing":
+                return new Scheduler(POOL_SIZE, POOL_SIZE, immortal, true, null);
+            case "virtual":
+                ThreadFactory virtualThreadFactory = BLangThreadFactory.createVirtualThreadFactory("test-vexec");
+                if (virtualThreadFactory == null) {
+                    throw new SkipException("virtual threads are not supported by the current Java runtime");
+                }
+                return new Scheduler(POOL_SIZE, POOL_SIZE, immortal, false, virtualThreadFactory);
+            case "adaptive":
+                // Starts with the calling thread only and adds workers on demand.
+                return new Scheduler(POOL_SIZE, 1, immortal, false, null);
+            default:
+                return new Scheduler(POOL_SIZE, POOL_SIZE, immortal, false, null);
+        }
+    }
+}
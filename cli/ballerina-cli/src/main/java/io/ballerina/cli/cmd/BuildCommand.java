@@ -120,6 +120,9 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private Boolean dumpBIRFile;
 
+    @CommandLine.Option(names = "--disable-inlining", hidden = true)
+    private Boolean disableInlining;
+
     @CommandLine.Option(names = "--dump-graph", hidden = true)
     private boolean dumpGraph;
 
@@ -277,7 +280,9 @@ public class BuildCommand implements BLauncherCmd {
                 .setDumpBuildTime(dumpBuildTime)
                 .setSticky(sticky)
                 .setConfigSchemaGen(configSchemaGen)
-                .setExportOpenAPI(exportOpenAPI);
+                .setExportOpenAPI(exportOpenAPI)
+                .setDisableInlining(disableInlining)
+                .setIncrementalBuild(true);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
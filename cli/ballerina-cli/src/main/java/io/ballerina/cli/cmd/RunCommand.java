@@ -77,6 +77,9 @@ public class RunCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir", hidden = true)
     private boolean dumpBIR;
 
+    @CommandLine.Option(names = "--disable-inlining", hidden = true)
+    private Boolean disableInlining;
+
     @CommandLine.Option(names = "--observability-included", description = "package observability in the executable " +
             "when run is used with a source file or a module.")
     private Boolean observabilityIncluded;
@@ -242,7 +245,14 @@ public class RunCommand implements BLauncherCmd {
                 .setSticky(sticky)
                 .setDumpGraph(dumpGraph)
                 .setDumpRawGraphs(dumpRawGraphs)
-                .setConfigSchemaGen(configSchemaGen);
+                .setConfigSchemaGen(configSchemaGen)
+                .setDisableInlining(disableInlining)
+                .setIncrementalBuild(true);
+
+        // Inlined calls cannot be stepped into while debugging
+        if (debugPort != null) {
+            buildOptionsBuilder.setDisableInlining(true);
+        }
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
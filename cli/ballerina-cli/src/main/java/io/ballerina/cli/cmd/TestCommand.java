@@ -280,6 +280,11 @@ public class TestCommand implements BLauncherCmd {
                 .setSticky(sticky)
                 .build();
 
+        // Inlined calls cannot be stepped into while debugging
+        if (debugPort != null) {
+            buildOptionsBuilder.setDisableInlining(true);
+        }
+
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
         }
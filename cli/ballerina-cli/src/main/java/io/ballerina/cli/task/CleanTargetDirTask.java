@@ -36,7 +36,11 @@ public class CleanTargetDirTask implements Task {
     public void execute(Project project) {
         try {
             Target target = new Target(project.targetDir());
-            target.clean();
+            if (project.buildOptions().incrementalBuild()) {
+                target.cleanOutputs();
+            } else {
+                target.clean();
+            }
         } catch (IOException | ProjectException e) {
             throw createLauncherException("unable to clean the target directory: " + e.getMessage());
         }
@@ -122,6 +122,14 @@ public class CompileTask implements Task {
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_11);
             if (project.buildOptions().dumpBuildTime()) {
                 BuildTime.getInstance().codeGenDuration = System.currentTimeMillis() - start;
+                BuildTime.getInstance().reusedModuleCount = jBallerinaBackend.reusedModuleCount();
+                BuildTime.getInstance().generatedModuleCount = jBallerinaBackend.generatedModuleCount();
+            }
+            // Report how many modules were reused, if the previous build could be reused at all
+            if (jBallerinaBackend.reusedModuleCount() > 0) {
+                this.out.println("\tReused " + jBallerinaBackend.reusedModuleCount() + " of " +
+                        (jBallerinaBackend.reusedModuleCount() + jBallerinaBackend.generatedModuleCount()) +
+                        " modules unchanged since the previous build");
             }
 
             // Report package compilation and backend diagnostics
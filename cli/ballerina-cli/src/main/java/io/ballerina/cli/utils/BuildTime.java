@@ -33,6 +33,8 @@ public class BuildTime {
     public long packageResolutionDuration;
     public long packageCompilationDuration;
     public long codeGenDuration;
+    public int reusedModuleCount;
+    public int generatedModuleCount;
     public long emitArtifactDuration;
     public long testingExecutionDuration;
     public long totalDuration;
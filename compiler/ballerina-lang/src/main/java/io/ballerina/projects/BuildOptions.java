@@ -94,6 +94,18 @@ public class BuildOptions {
         return this.compilationOptions.exportOpenAPI();
     }
 
+    public boolean parallelJarWriting() {
+        return this.compilationOptions.parallelJarWriting();
+    }
+
+    public boolean disableInlining() {
+        return this.compilationOptions.disableInlining();
+    }
+
+    public boolean incrementalBuild() {
+        return this.compilationOptions.incrementalBuild();
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -140,6 +152,9 @@ public class BuildOptions {
         buildOptionsBuilder.setSticky(compilationOptions.sticky);
         buildOptionsBuilder.setConfigSchemaGen(compilationOptions.configSchemaGen);
         buildOptionsBuilder.setExportOpenAPI(compilationOptions.exportOpenAPI);
+        buildOptionsBuilder.setParallelJarWriting(compilationOptions.parallelJarWriting);
+        buildOptionsBuilder.setDisableInlining(compilationOptions.disableInlining);
+        buildOptionsBuilder.setIncrementalBuild(compilationOptions.incrementalBuild);
 
         return buildOptionsBuilder.build();
     }
@@ -296,6 +311,21 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setParallelJarWriting(Boolean value) {
+            compilationOptionsBuilder.setParallelJarWriting(value);
+            return this;
+        }
+
+        public BuildOptionsBuilder setDisableInlining(Boolean value) {
+            compilationOptionsBuilder.setDisableInlining(value);
+            return this;
+        }
+
+        public BuildOptionsBuilder setIncrementalBuild(Boolean value) {
+            compilationOptionsBuilder.setIncrementalBuild(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions, targetPath);
@@ -42,4 +42,36 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the BIR of the given module cached by a previous build, if the module was compiled from inputs with the
+     * given fingerprint. The module has not changed since then, so its cached BIR and platform specific libraries can
+     * be reused instead of compiling it again.
+     *
+     * @param moduleName  name of the module
+     * @param fingerprint fingerprint of the current inputs of the module
+     * @return cached BIR of the module, or empty if the module has changed or it is not cached
+     */
+    public Optional<byte[]> getReusableBir(ModuleName moduleName, String fingerprint) {
+        return Optional.empty();
+    }
+
+    /**
+     * Caches the BIR of the given module along with the fingerprint of the inputs it was compiled from, so that a
+     * later build can reuse the module. The platform specific libraries of the module should be cached first.
+     *
+     * @param moduleName  name of the module
+     * @param fingerprint fingerprint of the inputs of the module
+     * @param birContent  BIR of the module
+     */
+    public void cacheReusableBir(ModuleName moduleName, String fingerprint, ByteArrayOutputStream birContent) {
+    }
+
+    /**
+     * Discards the BIR of the given module cached for a later build, since the module is compiled again.
+     *
+     * @param moduleName name of the module
+     */
+    public void removeReusableBir(ModuleName moduleName) {
+    }
 }
@@ -36,11 +36,15 @@ public class CompilationOptions {
     Boolean withCodeModifiers;
     Boolean configSchemaGen;
     Boolean exportOpenAPI;
+    Boolean parallelJarWriting;
+    Boolean disableInlining;
+    Boolean incrementalBuild;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
-                       Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI) {
+                       Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
+                       Boolean parallelJarWriting, Boolean disableInlining, Boolean incrementalBuild) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -54,6 +58,9 @@ public class CompilationOptions {
         this.withCodeModifiers = withCodeModifiers;
         this.configSchemaGen = configSchemaGen;
         this.exportOpenAPI = exportOpenAPI;
+        this.parallelJarWriting = parallelJarWriting;
+        this.disableInlining = disableInlining;
+        this.incrementalBuild = incrementalBuild;
     }
 
     public boolean offlineBuild() {
@@ -108,6 +115,18 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.exportOpenAPI);
     }
 
+    public boolean parallelJarWriting() {
+        return toBooleanDefaultIfNull(this.parallelJarWriting);
+    }
+
+    public boolean disableInlining() {
+        return toBooleanDefaultIfNull(this.disableInlining);
+    }
+
+    public boolean incrementalBuild() {
+        return toBooleanDefaultIfNull(this.incrementalBuild);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -181,6 +200,21 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setExportOpenAPI(this.exportOpenAPI);
         }
+        if (theirOptions.parallelJarWriting != null) {
+            compilationOptionsBuilder.setParallelJarWriting(theirOptions.parallelJarWriting);
+        } else {
+            compilationOptionsBuilder.setParallelJarWriting(this.parallelJarWriting);
+        }
+        if (theirOptions.disableInlining != null) {
+            compilationOptionsBuilder.setDisableInlining(theirOptions.disableInlining);
+        } else {
+            compilationOptionsBuilder.setDisableInlining(this.disableInlining);
+        }
+        if (theirOptions.incrementalBuild != null) {
+            compilationOptionsBuilder.setIncrementalBuild(theirOptions.incrementalBuild);
+        } else {
+            compilationOptionsBuilder.setIncrementalBuild(this.incrementalBuild);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -228,6 +262,9 @@ public class CompilationOptions {
         private Boolean withCodeModifiers;
         private Boolean configSchemaGen;
         private Boolean exportOpenAPI;
+        private Boolean parallelJarWriting;
+        private Boolean disableInlining;
+        private Boolean incrementalBuild;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -294,10 +331,26 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setParallelJarWriting(Boolean value) {
+            parallelJarWriting = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setDisableInlining(Boolean value) {
+            disableInlining = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setIncrementalBuild(Boolean value) {
+            incrementalBuild = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
-                    withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI);
+                    withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI, parallelJarWriting,
+                    disableInlining, incrementalBuild);
         }
     }
 }
@@ -63,6 +63,23 @@ class CompilerPluginManager {
         return new CompilerPluginManager(compilation, compilerPluginContexts);
     }
 
+    /**
+     * Checks whether any direct dependency of the root package engages a compiler plugin, without loading it.
+     *
+     * @param packageResolution resolution of the root package
+     * @return true if a compiler plugin is engaged, apart from the in-built ones
+     */
+    static boolean hasEngagedCompilerPlugins(PackageResolution packageResolution) {
+        ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(
+                packageResolution.packageContext().project().currentPackage(), PackageDependencyScope.DEFAULT);
+        for (Package pkgDependency : getDirectDependencies(rootPkgNode, packageResolution.dependencyGraph())) {
+            if (pkgDependency.manifest().compilerPluginDescriptor().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static List<CompilerPluginInfo> loadInBuiltCompilerPlugins(Package rootPackage) {
         List<CompilerPluginInfo> compilerPluginInfoList = new ArrayList<>();
         for (CompilerPlugin plugin : CompilerPlugins.getBuiltInPlugins()) {
@@ -63,6 +63,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -98,6 +102,14 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    // Writes and caches the jars of the modules while the code of the next modules is generated, if parallel jar
+    // writing is on
+    private ExecutorService jarWriterPool;
+    private final List<Future<?>> pendingJars = new ArrayList<>();
+    // Cache writes deferred until all the jars are cached
+    private final List<Runnable> pendingCacheWrites = new ArrayList<>();
+    private int reusedModuleCount;
+    private int generatedModuleCount;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         // Check if the project has write permissions
@@ -148,26 +160,47 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.getResolution().diagnosticResult().allDiagnostics);
         // add ballerina toml diagnostics
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
+        if (packageContext.compilationOptions().parallelJarWriting()) {
+            int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            jarWriterPool = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "jar-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
-        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
-            // If modules from the current package are being processed
-            // we do an overall check on the diagnostics of the package
-            if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
-                if (packageCompilation.diagnosticResult().hasErrors()) {
-                    moduleDiagnostics.addAll(packageCompilation.diagnosticResult().diagnostics());
-                    break;
+        try {
+            for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+                // If modules from the current package are being processed
+                // we do an overall check on the diagnostics of the package
+                if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
+                    if (packageCompilation.diagnosticResult().hasErrors()) {
+                        moduleDiagnostics.addAll(packageCompilation.diagnosticResult().diagnostics());
+                        break;
+                    }
                 }
-            }
 
-            // We can't generate backend code when one of its dependencies have errors.
-            if (hasNoErrors(moduleDiagnostics)) {
-                moduleContext.generatePlatformSpecificCode(compilerContext, this);
+                // We can't generate backend code when one of its dependencies have errors.
+                if (hasNoErrors(moduleDiagnostics)) {
+                    moduleContext.generatePlatformSpecificCode(compilerContext, this);
+                }
+                if (moduleContext.isReused()) {
+                    reusedModuleCount++;
+                }
+                for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+                    moduleDiagnostics.add(
+                            new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+                }
             }
-            for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                moduleDiagnostics.add(
-                        new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+            performPendingCacheWrites();
+        } finally {
+            if (jarWriterPool != null) {
+                jarWriterPool.shutdownNow();
+                jarWriterPool = null;
             }
+            pendingJars.clear();
+            pendingCacheWrites.clear();
         }
         // add compilation diagnostics
         diagnostics.addAll(moduleDiagnostics);
@@ -180,6 +213,45 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    // Waits for the jars written in parallel to be cached, and then caches the BIR of the modules to reuse
+    private void performPendingCacheWrites() {
+        for (Future<?> pendingJar : pendingJars) {
+            awaitJar(pendingJar);
+        }
+        for (Runnable cacheWrite : pendingCacheWrites) {
+            cacheWrite.run();
+        }
+    }
+
+    // Performs a cache write after the jars of the modules have been cached
+    private void cacheAfterJars(Runnable cacheWrite) {
+        if (jarWriterPool == null) {
+            cacheWrite.run();
+        } else {
+            pendingCacheWrites.add(cacheWrite);
+        }
+    }
+
+    /**
+     * Returns the number of modules of the current package which were loaded from the BIR cached by a previous build,
+     * instead of being compiled again.
+     *
+     * @return number of reused modules
+     */
+    public int reusedModuleCount() {
+        return reusedModuleCount;
+    }
+
+    /**
+     * Returns the number of modules of the current package which were compiled by this build, because they could not be
+     * reused.
+     *
+     * @return number of compiled modules
+     */
+    public int generatedModuleCount() {
+        return generatedModuleCount;
+    }
+
     private boolean hasNoErrors(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
@@ -301,6 +373,22 @@ public class JBallerinaBackend extends CompilerBackend {
     // TODO This method should be moved to some other class owned by the JBallerinaBackend
     @Override
     public void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache) {
+        String fingerprint = moduleContext.fingerprint();
+        if (fingerprint == null) {
+            generateCode(moduleContext, compilationCache);
+            return;
+        }
+        generatedModuleCount++;
+        ByteArrayOutputStream birContent = moduleContext.reusableBirContent();
+        generateCode(moduleContext, compilationCache);
+        // Reusing the module would skip its compilation, and hence lose any diagnostics reported for it.
+        if (moduleContext.diagnostics().isEmpty()) {
+            cacheAfterJars(() -> compilationCache.cacheReusableBir(moduleContext.moduleName(), fingerprint,
+                    birContent));
+        }
+    }
+
+    private void generateCode(ModuleContext moduleContext, CompilationCache compilationCache) {
         BLangPackage bLangPackage = moduleContext.bLangPackage();
         interopValidator.validate(moduleContext.moduleId(), this, bLangPackage);
         if (bLangPackage.getErrorCount() > 0) {
@@ -311,12 +399,8 @@ public class JBallerinaBackend extends CompilerBackend {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
         }
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        cacheJar(compiledJarFile, getResources(moduleContext), compilationCache, jarFileName,
+                "Failed to cache generated jar, module: " + moduleContext.moduleName());
         // skip generation of the test jar if --with-tests option is not provided
         if (moduleContext.project().buildOptions().skipTests()) {
             return;
@@ -328,11 +412,48 @@ public class JBallerinaBackend extends CompilerBackend {
 
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
+        cacheJar(compiledTestJarFile, getAllResources(moduleContext), compilationCache, testJarFileName,
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName());
+    }
+
+    private void cacheJar(CompiledJarFile compiledJarFile, Map<String, byte[]> resources,
+                          CompilationCache compilationCache, String jarFileName, String errorMessage) {
+        if (jarWriterPool == null) {
+            compilationCache.cachePlatformSpecificLibrary(this, jarFileName,
+                    writeJar(compiledJarFile, resources, errorMessage));
+            return;
+        }
+        // Writing the jar does not touch the compiler state, so the code of the next modules is generated meanwhile.
+        // The jar is cached as soon as it is written, hence the compilation cache must allow concurrent writes of
+        // different libraries.
+        pendingJars.add(jarWriterPool.submit(() -> compilationCache.cachePlatformSpecificLibrary(this, jarFileName,
+                writeJar(compiledJarFile, resources, errorMessage))));
+    }
+
+    private static ByteArrayOutputStream writeJar(CompiledJarFile compiledJarFile, Map<String, byte[]> resources,
+                                                  String errorMessage) {
         try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
+            return JarWriter.write(compiledJarFile, resources);
         } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+            throw new ProjectException(errorMessage);
+        }
+    }
+
+    private static void awaitJar(Future<?> pendingJar) {
+        try {
+            pendingJar.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException("Interrupted while writing the generated jars", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ProjectException(cause);
         }
     }
 
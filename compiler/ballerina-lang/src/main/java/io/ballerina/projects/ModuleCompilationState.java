@@ -42,8 +42,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileSources(moduleContext, compilerContext);
         }
 
         @Override
@@ -51,8 +50,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.currentCompilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     PARSED {
@@ -71,8 +70,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileSources(moduleContext, compilerContext);
         }
 
         @Override
@@ -80,8 +78,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.currentCompilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     DEPENDENCIES_RESOLVED_FROM_SOURCES {
@@ -97,8 +95,7 @@ enum ModuleCompilationState {
 
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileSources(moduleContext, compilerContext);
         }
 
         @Override
@@ -106,8 +103,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.currentCompilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     COMPILED {
@@ -290,6 +287,16 @@ enum ModuleCompilationState {
         }
     };
 
+    // Compiles the sources of the module, unless it has not changed since a previous build that cached its BIR
+    private static void compileSources(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (ModuleContext.loadReusableBirInternal(moduleContext, compilerContext)) {
+            moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+            return;
+        }
+        ModuleContext.compileInternal(moduleContext, compilerContext);
+        moduleContext.setCompilationState(COMPILED);
+    }
+
     abstract void parse(ModuleContext moduleContext);
 
     abstract void resolveDependencies(ModuleContext moduleContext);
@@ -90,6 +90,10 @@ class ModuleContext {
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
+    // Fingerprint of the inputs of the module, if a later build may reuse the module instead of compiling it again
+    private String fingerprint;
+    private boolean reused;
+    private ByteArrayOutputStream reusableBirContent;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -213,6 +217,38 @@ class ModuleContext {
         return moduleDescDependencies;
     }
 
+    byte[] birBytes() {
+        return birBytes;
+    }
+
+    String fingerprint() {
+        return fingerprint;
+    }
+
+    void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns whether the module was loaded from the BIR cached by a previous build, instead of being compiled,
+     * because it has not changed since then.
+     *
+     * @return true if the module was reused
+     */
+    boolean isReused() {
+        return reused;
+    }
+
+    /**
+     * Returns the BIR of the module as it was before its code was generated, to be cached along with its
+     * fingerprint once its platform specific libraries are cached.
+     *
+     * @return the BIR of the module, or null if the module cannot be reused by a later build
+     */
+    ByteArrayOutputStream reusableBirContent() {
+        return reusableBirContent;
+    }
+
     Set<ModuleLoadRequest> populateModuleLoadRequests() {
         if (allModuleLoadRequests != null) {
             return allModuleLoadRequests;
@@ -469,8 +505,14 @@ class ModuleContext {
             return;
         }
 
+        // Generating the code changes the BIR, hence the BIR to be reused by a later build is serialized beforehand
+        if (moduleContext.fingerprint != null) {
+            moduleContext.reusableBirContent = birContent != null ? birContent : serializeBIR(moduleContext);
+        }
+
         // Generate and write the thin JAR to the file system
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+        moduleContext.reusableBirContent = null;
 
         // Skip writing the bir for BuildProject
         if (birContent == null) {
@@ -493,6 +535,12 @@ class ModuleContext {
             }
         }
 
+        ByteArrayOutputStream birContent = serializeBIR(moduleContext);
+        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        return birContent;
+    }
+
+    private static ByteArrayOutputStream serializeBIR(ModuleContext moduleContext) {
         // Can we improve this logic
         ByteArrayOutputStream birContent = new ByteArrayOutputStream();
         try {
@@ -504,7 +552,6 @@ class ModuleContext {
             }
             byte[] pkgBirBinaryContent = PackageFileWriter.writePackage(birPackageFile);
             birContent.writeBytes(pkgBirBinaryContent);
-            moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
             return birContent;
         } catch (IOException e) {
             // This path may never be executed
@@ -521,12 +568,43 @@ class ModuleContext {
     }
 
     static void loadPackageSymbolInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        definePackageSymbol(moduleContext, compilerContext, moduleContext.birBytes);
+    }
+
+    /**
+     * Loads the module from the BIR cached by a previous build, if the fingerprint of the module has not changed
+     * since then. The module is then used as if it is a module of another package, whose BIR is loaded from the
+     * cache.
+     *
+     * @param moduleContext   module to load
+     * @param compilerContext compiler context
+     * @return true if the module was loaded, or false if it has to be compiled
+     */
+    static boolean loadReusableBirInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (moduleContext.fingerprint == null) {
+            return false;
+        }
+        Optional<byte[]> birBytes =
+                moduleContext.compilationCache.getReusableBir(moduleContext.moduleName(), moduleContext.fingerprint);
+        if (birBytes.isEmpty()) {
+            // The module is compiled again, which replaces its libraries. Hence the BIR cached for its previous
+            // inputs must not be reused even if those inputs are restored.
+            moduleContext.compilationCache.removeReusableBir(moduleContext.moduleName());
+            return false;
+        }
+        definePackageSymbol(moduleContext, compilerContext, birBytes.get());
+        moduleContext.reused = true;
+        return true;
+    }
+
+    private static void definePackageSymbol(ModuleContext moduleContext, CompilerContext compilerContext,
+                                            byte[] birBytes) {
         org.wso2.ballerinalang.compiler.PackageCache packageCache =
                 org.wso2.ballerinalang.compiler.PackageCache.getInstance(compilerContext);
         BIRPackageSymbolEnter birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(compilerContext);
 
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
-        moduleContext.bPackageSymbol = birPackageSymbolEnter.definePackage(moduleCompilationId, moduleContext.birBytes);
+        moduleContext.bPackageSymbol = birPackageSymbolEnter.definePackage(moduleCompilationId, birBytes);
         moduleContext.bPackageSymbol.exported = moduleContext.isExported();
         moduleContext.bPackageSymbol.descriptor = moduleContext.descriptor();
         packageCache.putSymbol(moduleCompilationId, moduleContext.bPackageSymbol);
@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.projects.CompilerBackend.TargetPlatform;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Computes the fingerprints of the modules, which identify the inputs a module is compiled from.
+ * <p>
+ * The fingerprint of a module is a hash of the compiler version, the given build configuration, the platform
+ * libraries of the package, the sources and resources of the module, or its BIR if it is loaded from the cache, and
+ * the fingerprints of the modules it depends on. Two builds of a module with the same fingerprint produce the same BIR
+ * and code.
+ *
+ * @since 2201.2.0
+ */
+final class ModuleFingerprints {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private ModuleFingerprints() {
+    }
+
+    /**
+     * Computes the fingerprints of the given modules.
+     *
+     * @param moduleContexts modules in topological order
+     * @param targetPlatform target platform of the generated code
+     * @param configuration  build configuration that affects the generated code
+     * @return fingerprints of the modules
+     */
+    static Map<ModuleDescriptor, String> compute(List<ModuleContext> moduleContexts, TargetPlatform targetPlatform,
+                                                 String configuration) {
+        Map<ModuleDescriptor, String> fingerprints = new HashMap<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            fingerprints.put(moduleContext.descriptor(),
+                    compute(moduleContext, targetPlatform, configuration, fingerprints));
+        }
+        return fingerprints;
+    }
+
+    private static String compute(ModuleContext moduleContext, TargetPlatform targetPlatform, String configuration,
+                                  Map<ModuleDescriptor, String> fingerprints) {
+        MessageDigest digest = newDigest();
+        update(digest, RepoUtils.getBallerinaVersion());
+        update(digest, targetPlatform.code());
+        update(digest, configuration);
+        update(digest, toString(moduleContext.descriptor()));
+        update(digest, String.valueOf(moduleContext.isExported()));
+        updateWithPlatformLibraries(digest, moduleContext, targetPlatform);
+
+        byte[] birBytes = moduleContext.birBytes();
+        if (birBytes.length > 0) {
+            digest.update(birBytes);
+        } else {
+            updateWithDocuments(digest, moduleContext);
+        }
+
+        // Sort the dependencies, so that the fingerprint does not depend on their order.
+        Map<String, String> dependencyFingerprints = new TreeMap<>();
+        for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+            ModuleDescriptor descriptor = moduleDependency.descriptor();
+            dependencyFingerprints.put(toString(descriptor), fingerprints.getOrDefault(descriptor, ""));
+        }
+        for (Map.Entry<String, String> dependencyFingerprint : dependencyFingerprints.entrySet()) {
+            update(digest, dependencyFingerprint.getKey());
+            update(digest, dependencyFingerprint.getValue());
+        }
+        return toHexString(digest.digest());
+    }
+
+    private static void updateWithDocuments(MessageDigest digest, ModuleContext moduleContext) {
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        moduleContext.srcDocumentIds().forEach(id -> documentContexts.add(moduleContext.documentContext(id)));
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            update(digest, documentContext.name());
+            update(digest, getContent(documentContext));
+        }
+
+        documentContexts.clear();
+        moduleContext.testSrcDocumentIds().forEach(id -> documentContexts.add(moduleContext.documentContext(id)));
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        update(digest, "tests");
+        for (DocumentContext documentContext : documentContexts) {
+            update(digest, documentContext.name());
+            update(digest, getContent(documentContext));
+        }
+
+        List<ResourceContext> resourceContexts = new ArrayList<>();
+        moduleContext.resourceIds().forEach(id -> resourceContexts.add(moduleContext.resourceContext(id)));
+        moduleContext.testResourceIds().forEach(id -> resourceContexts.add(moduleContext.resourceContext(id)));
+        resourceContexts.sort(Comparator.comparing(ResourceContext::name));
+        update(digest, "resources");
+        for (ResourceContext resourceContext : resourceContexts) {
+            update(digest, resourceContext.name());
+            digest.update(resourceContext.content());
+        }
+    }
+
+    private static String getContent(DocumentContext documentContext) {
+        String content = documentContext.content();
+        return content != null ? content : documentContext.syntaxTree().toSourceCode();
+    }
+
+    private static void updateWithPlatformLibraries(MessageDigest digest, ModuleContext moduleContext,
+                                                    TargetPlatform targetPlatform) {
+        Package pkg = moduleContext.project().currentPackage();
+        PackageManifest.Platform platform = pkg.manifest().platform(targetPlatform.code());
+        if (platform == null) {
+            return;
+        }
+        for (Map<String, Object> dependency : platform.dependencies()) {
+            update(digest, dependency.toString());
+            // A library referred by its path may be replaced without changing the manifest.
+            Object path = dependency.get(JarLibrary.KEY_PATH);
+            if (path != null) {
+                File library = pkg.project().sourceRoot().resolve(path.toString()).toFile();
+                update(digest, library.length() + ":" + library.lastModified());
+            }
+        }
+    }
+
+    private static String toString(ModuleDescriptor descriptor) {
+        return descriptor.org() + "/" + descriptor.packageName() + ":" + descriptor.version() + "/" +
+                descriptor.name();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Prefix the length to keep the boundaries between the values.
+        update(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, int value) {
+        digest.update(new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value});
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
@@ -38,6 +38,7 @@ import java.util.ServiceLoader;
 import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
+import static org.ballerinalang.compiler.CompilerOptionName.DISABLE_INLINING;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
@@ -86,6 +87,7 @@ public class PackageCompilation {
         options.put(OBSERVABILITY_INCLUDED, Boolean.toString(compilationOptions.observabilityIncluded()));
         options.put(DUMP_BIR, Boolean.toString(compilationOptions.dumpBir()));
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
+        options.put(DISABLE_INLINING, Boolean.toString(compilationOptions.disableInlining()));
         options.put(CLOUD, compilationOptions.getCloud());
     }
 
@@ -194,6 +196,7 @@ public class PackageCompilation {
         // add dependency manifest diagnostics
         diagnostics.addAll(packageContext().dependencyManifest().diagnostics().allDiagnostics);
         // add compilation diagnostics
+        setModuleFingerprints();
         for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
             moduleContext.compile(compilerContext);
             for (Diagnostic diagnostic : moduleContext.diagnostics()) {
@@ -205,6 +208,48 @@ public class PackageCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    /**
+     * Sets the fingerprints of the modules of the root package, so that the modules which have not changed since the
+     * previous build are loaded from the BIR cached by it, instead of being compiled again.
+     * <p>
+     * The fingerprint of a module covers its own sources and the fingerprints of the modules it depends on. Modules
+     * are not reused if anything that needs their syntax trees or semantic models, such as a compiler plugin or the
+     * test runner, may run on them.
+     */
+    private void setModuleFingerprints() {
+        if (!canReuseModules()) {
+            return;
+        }
+        boolean skipTests = rootPackageContext.project().buildOptions().skipTests();
+        String configuration = "skipTests=" + skipTests +
+                ",disableInlining=" + compilationOptions.disableInlining();
+        List<ModuleContext> moduleContexts = packageResolution.topologicallySortedModuleList();
+        Map<ModuleDescriptor, String> fingerprints =
+                ModuleFingerprints.compute(moduleContexts, JvmTarget.JAVA_11, configuration);
+        for (ModuleContext moduleContext : moduleContexts) {
+            if (!moduleContext.moduleId().packageId().equals(rootPackageContext.packageId())) {
+                continue;
+            }
+            if (skipTests || moduleContext.testSrcDocumentIds().isEmpty()) {
+                moduleContext.setFingerprint(fingerprints.get(moduleContext.descriptor()));
+            }
+        }
+    }
+
+    private boolean canReuseModules() {
+        if (!compilationOptions.incrementalBuild() ||
+                rootPackageContext.project().kind() != ProjectKind.BUILD_PROJECT ||
+                rootPackageContext.descriptor().isBuiltInPackage()) {
+            return false;
+        }
+        if (compilationOptions.observabilityIncluded() || compilationOptions.dumpBir() ||
+                compilationOptions.dumpBirFile() || compilationOptions.configSchemaGen() ||
+                compilationOptions.exportOpenAPI()) {
+            return false;
+        }
+        return !CompilerPluginManager.hasEngagedCompilerPlugins(packageResolution);
+    }
+
     private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
@@ -202,6 +202,13 @@ public class Target {
     public void clean() throws IOException {
         // Remove from cache
         ProjectUtils.deleteDirectory(this.cache);
+        cleanOutputs();
+    }
+
+    /**
+     * Clean any files that created from the build, but keep the cache to be reused by an incremental build.
+     */
+    public void cleanOutputs() throws IOException {
         // Remove any generated bala
         ProjectUtils.deleteDirectory(this.balaCachePath);
         ProjectUtils.deleteDirectory(this.binPath);
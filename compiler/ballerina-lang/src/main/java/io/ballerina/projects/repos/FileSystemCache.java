@@ -24,6 +24,7 @@ import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
@@ -47,10 +48,15 @@ import java.util.Optional;
  * - mod2.bir
  * - jar
  * - org-package-name-version.jar
+ * - reusable-bir
+ * - mod1.bir
+ * - mod1.bir.fingerprint
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String REUSABLE_BIR_DIR_NAME = "reusable-bir";
+    private static final String FINGERPRINT_FILE_EXT = ".fingerprint";
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -118,6 +124,58 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public Optional<byte[]> getReusableBir(ModuleName moduleName, String fingerprint) {
+        Path birFilePath = getReusableBirFilePath(moduleName);
+        Path fingerprintFilePath = getReusableBirFingerprintFilePath(moduleName);
+        if (!Files.exists(fingerprintFilePath) || !Files.exists(birFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            if (!Files.readString(fingerprintFilePath).equals(fingerprint)) {
+                return Optional.empty();
+            }
+            return Optional.of(Files.readAllBytes(birFilePath));
+        } catch (IOException e) {
+            // The module is compiled again, which replaces the unreadable files.
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheReusableBir(ModuleName moduleName, String fingerprint, ByteArrayOutputStream birContent) {
+        Path birFilePath = getReusableBirFilePath(moduleName);
+        createDirectories(birFilePath.getParent());
+        removeReusableBir(moduleName);
+        try {
+            // The fingerprint is written last, so that a BIR file without one is never reused.
+            Files.write(birFilePath, birContent.toByteArray());
+            Files.writeString(getReusableBirFingerprintFilePath(moduleName), fingerprint);
+        } catch (IOException e) {
+            throw new ProjectException("Failed to cache the reusable bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public void removeReusableBir(ModuleName moduleName) {
+        Path fingerprintFilePath = getReusableBirFingerprintFilePath(moduleName);
+        try {
+            Files.deleteIfExists(fingerprintFilePath);
+        } catch (IOException e) {
+            throw new ProjectException("Failed to remove the reusable bir of module: " + moduleName, e);
+        }
+    }
+
+    private Path getReusableBirFilePath(ModuleName moduleName) {
+        return packageCacheDirPath().resolve(REUSABLE_BIR_DIR_NAME)
+                .resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+    }
+
+    private Path getReusableBirFingerprintFilePath(ModuleName moduleName) {
+        Path birFilePath = getReusableBirFilePath(moduleName);
+        return birFilePath.resolveSibling(birFilePath.getFileName() + FINGERPRINT_FILE_EXT);
+    }
+
     private Path getTargetPlatformCacheDirPath(CompilerBackend compilerBackend) {
         String targetPlatformCode = compilerBackend.targetPlatform().code();
         return packageCacheDirPath().resolve(targetPlatformCode);
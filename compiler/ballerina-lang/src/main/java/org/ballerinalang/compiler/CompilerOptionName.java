@@ -54,6 +54,8 @@ public enum CompilerOptionName {
 
     DUMP_BIR_FILE("dumpBIRFile"),
 
+    DISABLE_INLINING("disableInlining"),
+
     CLOUD("cloud"),
 
     LOCK_ENABLED("lockEnabled"),
@@ -269,7 +269,9 @@ public class BIRGen extends BLangNodeVisitor {
         this.env = new BIRGenEnv(birPkg);
         astPkg.accept(this);
 
-        this.birOptimizer.optimizePackage(birPkg);
+        // Calls are not inlined when tests are compiled, since the tests can mock the called functions.
+        boolean inlineFunctions = astPkg.moduleContextDataHolder.skipTests();
+        this.birOptimizer.optimizePackage(birPkg, inlineFunctions);
         if (!astPkg.moduleContextDataHolder.skipTests() && astPkg.hasTestablePackage()) {
             astPkg.getTestablePkgs().forEach(testPkg -> {
                 BIRPackage testBirPkg = new BIRPackage(testPkg.pos, testPkg.packageID.orgName,
@@ -277,7 +279,7 @@ public class BIRGen extends BLangNodeVisitor {
                         testPkg.packageID.sourceFileName, true);
                 this.env = new BIRGenEnv(testBirPkg);
                 testPkg.accept(this);
-                this.birOptimizer.optimizePackage(testBirPkg);
+                this.birOptimizer.optimizePackage(testBirPkg, inlineFunctions);
                 testPkg.symbol.bir = testBirPkg;
                 testBirPkg.importModules.add(new BIRNode.BIRImportModule(null, testPkg.packageID.orgName,
                         testPkg.packageID.name, testPkg.packageID.version));
@@ -2464,9 +2466,11 @@ public class BIRGen extends BLangNodeVisitor {
             } else {
                 insKind = InstructionKind.MAP_STORE;
             }
-            setScopeAndEmit(
+            BIRNonTerminator.FieldAccess fieldStore =
                     new BIRNonTerminator.FieldAccess(astIndexBasedAccessExpr.pos, insKind, varRefRegIndex, keyRegIndex,
-                            rhsOp, astIndexBasedAccessExpr.isStoreOnCreation));
+                            rhsOp, astIndexBasedAccessExpr.isStoreOnCreation);
+            fieldStore.fieldName = getLiteralFieldName(astIndexBasedAccessExpr.indexExpr);
+            setScopeAndEmit(fieldStore);
         } else {
             BIRVariableDcl tempVarDcl = new BIRVariableDcl(astIndexBasedAccessExpr.getBType(),
                                                            this.env.nextLocalVarId(names),
@@ -2496,15 +2500,24 @@ public class BIRGen extends BLangNodeVisitor {
             } else {
                 insKind = InstructionKind.MAP_LOAD;
             }
-            setScopeAndEmit(
+            BIRNonTerminator.FieldAccess fieldLoad =
                     new BIRNonTerminator.FieldAccess(astIndexBasedAccessExpr.pos, insKind, tempVarRef, keyRegIndex,
                             varRefRegIndex, except,
-                            astIndexBasedAccessExpr.isLValue && !astIndexBasedAccessExpr.leafNode));
+                            astIndexBasedAccessExpr.isLValue && !astIndexBasedAccessExpr.leafNode);
+            fieldLoad.fieldName = getLiteralFieldName(astIndexBasedAccessExpr.indexExpr);
+            setScopeAndEmit(fieldLoad);
             this.env.targetOperand = tempVarRef;
         }
         this.varAssignment = variableStore;
     }
 
+    private String getLiteralFieldName(BLangExpression indexExpr) {
+        if (indexExpr.getKind() == NodeKind.LITERAL && ((BLangLiteral) indexExpr).value instanceof String) {
+            return (String) ((BLangLiteral) indexExpr).value;
+        }
+        return null;
+    }
+
     private BTypeSymbol getObjectTypeSymbol(BType objType) {
         BType type = Types.getReferredType(objType);
         if (type.tag == TypeTags.UNION) {
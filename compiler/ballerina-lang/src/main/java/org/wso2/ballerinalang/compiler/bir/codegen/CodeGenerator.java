@@ -68,14 +68,14 @@ public class CodeGenerator {
 
     public CompiledJarFile generate(BLangPackage bLangPackage) {
         // generate module
-        return generate(bLangPackage.symbol);
+        return generate(bLangPackage.symbol, bLangPackage.moduleContextDataHolder.skipTests());
     }
 
     public CompiledJarFile generateTestModule(BLangPackage bLangTestablePackage) {
-        return generate(bLangTestablePackage.symbol);
+        return generate(bLangTestablePackage.symbol, false);
     }
 
-    private CompiledJarFile generate(BPackageSymbol packageSymbol) {
+    private CompiledJarFile generate(BPackageSymbol packageSymbol, boolean skipTests) {
 
         // Split large BIR functions into smaller methods
         largeMethodOptimizer = new LargeMethodOptimizer(symbolTable);
@@ -93,7 +93,8 @@ public class CodeGenerator {
         HashMap<String, String> originalIdentifierMap = JvmDesugarPhase.encodeModuleIdentifiers(packageSymbol.bir);
 
         // TODO Get-rid of the following assignment
-        packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, true);
+        // Functions that do not yield can be replaced by mocks that yield when tests are compiled
+        packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, true, skipTests);
 
         //Revert encoding identifier names
         JvmDesugarPhase.replaceEncodedModuleIdentifiers(packageSymbol.bir, originalIdentifierMap);
@@ -43,9 +43,12 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
@@ -71,6 +74,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -94,6 +98,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -115,6 +120,8 @@ import static org.objectweb.asm.Opcodes.LSTORE;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -223,8 +230,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_GET_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_GET_ITEM;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_SET_ATTRIBUTE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getFieldIsPresentFlagName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptionalRecordField;
 
 /**
  * Instruction generator helper class to hold its enclosing pkg and index map.
@@ -1355,6 +1364,14 @@ public class JvmInstructionGen {
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
         BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
 
+        Label doneLabel = null;
+        BField field = mapStoreIns.onInitialization ? null : getDirectlyAccessedField(varRefType, mapStoreIns);
+        if (field != null && !Symbols.isFlagOn(field.symbol.flags, Flags.READONLY)) {
+            doneLabel = new Label();
+            generateDirectFieldStore(mapStoreIns, (BRecordType) JvmCodeGenUtil.getReferredType(varRefType), field,
+                                     doneLabel);
+        }
+
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
 
@@ -1373,6 +1390,99 @@ public class JvmInstructionGen {
         } else {
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", HANDLE_MAP_STORE, false);
         }
+        if (doneLabel != null) {
+            this.mv.visitLabel(doneLabel);
+        }
+    }
+
+    /**
+     * Returns the field of a record type defined in the current module that is accessed by a field access with a
+     * string literal key, so that the field of the generated record class can be accessed directly.
+     *
+     * @param varRefType static type of the accessed value
+     * @param fieldAccess field access instruction
+     * @return the accessed field, or null if the field cannot be accessed directly
+     */
+    private BField getDirectlyAccessedField(BType varRefType, FieldAccess fieldAccess) {
+        if (fieldAccess.fieldName == null) {
+            return null;
+        }
+        BType type = JvmCodeGenUtil.getReferredType(varRefType);
+        // The fields of the generated record classes are package-private.
+        if (type.tag != TypeTags.RECORD || type.tsymbol == null ||
+                !JvmCodeGenUtil.getPackageName(type.tsymbol.pkgID).equals(this.currentPackageName)) {
+            return null;
+        }
+        return ((BRecordType) type).fields.get(fieldAccess.fieldName);
+    }
+
+    /**
+     * Generates a store to the field of the generated record class, used if the map_ref on the stack is an instance
+     * of that class and is not frozen. Otherwise, the map_ref is left on the stack for the generic store.
+     */
+    private void generateDirectFieldStore(FieldAccess mapStoreIns, BRecordType recordType, BField field,
+                                          Label doneLabel) {
+        String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+        Label genericStoreLabel = new Label();
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericStoreLabel);
+        this.mv.visitInsn(DUP);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "isFrozen", "()Z", true);
+        this.mv.visitJumpInsn(IFNE, genericStoreLabel);
+
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        String fieldName = field.name.value;
+        if (isOptionalRecordField(field)) {
+            this.mv.visitInsn(DUP);
+            this.mv.visitInsn(ICONST_1);
+            this.mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName), "Z");
+        }
+        BType valueType = mapStoreIns.rhsOp.variableDcl.type;
+        this.loadVar(mapStoreIns.rhsOp.variableDcl);
+        String fieldDesc = getTypeDesc(field.type);
+        if (!fieldDesc.equals(getTypeDesc(valueType))) {
+            jvmCastGen.addBoxInsn(this.mv, valueType);
+            jvmCastGen.addUnboxInsn(this.mv, field.type);
+        }
+        this.mv.visitFieldInsn(PUTFIELD, className, fieldName, fieldDesc);
+        this.mv.visitJumpInsn(GOTO, doneLabel);
+        this.mv.visitLabel(genericStoreLabel);
+    }
+
+    /**
+     * Generates a load of the field of the generated record class, used if the map_ref on the stack is an instance
+     * of that class. Otherwise, the map_ref is left on the stack for the generic load. The loaded value is boxed
+     * only if it is not already of the JVM type of the target.
+     */
+    private void generateDirectFieldLoad(BRecordType recordType, BField field, BType targetType, Label doneLabel) {
+        String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+        Label genericLoadLabel = new Label();
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+
+        String fieldName = field.name.value;
+        Label loadValueLabel = new Label();
+        if (isOptionalRecordField(field)) {
+            // an absent optional field is read as nil, which the target type includes
+            this.mv.visitInsn(DUP);
+            this.mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName), "Z");
+            this.mv.visitJumpInsn(IFNE, loadValueLabel);
+            this.mv.visitInsn(POP);
+            this.mv.visitInsn(ACONST_NULL);
+            this.mv.visitJumpInsn(GOTO, doneLabel);
+        }
+        this.mv.visitLabel(loadValueLabel);
+        String fieldDesc = getTypeDesc(field.type);
+        this.mv.visitFieldInsn(GETFIELD, className, fieldName, fieldDesc);
+        if (!fieldDesc.equals(getTypeDesc(targetType))) {
+            jvmCastGen.addBoxInsn(this.mv, field.type);
+            jvmCastGen.addUnboxInsn(this.mv, targetType);
+        }
+        this.mv.visitJumpInsn(GOTO, doneLabel);
+        this.mv.visitLabel(genericLoadLabel);
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
@@ -1380,6 +1490,16 @@ public class JvmInstructionGen {
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+
+        Label doneLabel = null;
+        BField field = getDirectlyAccessedField(varRefType, mapLoadIns);
+        // a filling read of an absent optional field has to fill it
+        if (field != null && !(mapLoadIns.fillingRead && isOptionalRecordField(field))) {
+            doneLabel = new Label();
+            generateDirectFieldLoad((BRecordType) JvmCodeGenUtil.getReferredType(varRefType), field, targetType,
+                                    doneLabel);
+        }
 
         // visit key_expr
         this.loadVar(mapLoadIns.keyOp.variableDcl);
@@ -1406,8 +1526,10 @@ public class JvmInstructionGen {
         }
 
         // store in the target reg
-        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
+        if (doneLabel != null) {
+            this.mv.visitLabel(doneLabel);
+        }
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
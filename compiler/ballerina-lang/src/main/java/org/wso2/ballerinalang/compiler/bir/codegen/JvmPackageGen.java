@@ -42,6 +42,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MainMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGenUtils;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.ModuleStopMethodGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.optimizer.YieldAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmMethodsSplitter;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
@@ -133,6 +134,7 @@ public class JvmPackageGen {
 
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
+    public final YieldAnalyzer yieldAnalyzer;
     private final MethodGen methodGen;
     private final FrameClassGen frameClassGen;
     private final InitMethodGen initMethodGen;
@@ -153,6 +155,7 @@ public class JvmPackageGen {
         this.packageCache = packageCache;
         this.dlog = dlog;
         this.types = types;
+        this.yieldAnalyzer = new YieldAnalyzer();
         methodGen = new MethodGen(this, types);
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
@@ -736,7 +739,7 @@ public class JvmPackageGen {
 
     private void generateDependencyList(BPackageSymbol packageSymbol)  {
         if (packageSymbol.bir != null) {
-            generate(packageSymbol.bir, false);
+            generate(packageSymbol.bir, false, false);
         } else {
             for (BPackageSymbol importPkgSymbol : packageSymbol.imports) {
                 if (importPkgSymbol == null) {
@@ -748,7 +751,7 @@ public class JvmPackageGen {
         dependentModules.add(packageSymbol.pkgID);
     }
 
-    CompiledJarFile generate(BIRPackage module, boolean isEntry) {
+    CompiledJarFile generate(BIRPackage module, boolean isEntry, boolean analyzeYields) {
         if (dependentModules.contains(module.packageID)) {
             return null;
         }
@@ -795,13 +798,18 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // find the functions that never yield, to generate them without saving and restoring their state
+        if (analyzeYields) {
+            yieldAnalyzer.analyze(module);
+        }
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, typeHashVisitor, types);
         valueGen.generateValueClasses(jarEntries, jvmConstantsGen);
 
 
         // generate frame classes
-        frameClassGen.generateFrameClasses(module, jarEntries);
+        frameClassGen.generateFrameClasses(module, jarEntries, yieldAnalyzer);
 
         // generate module classes
         generateModuleClasses(module, jarEntries, moduleInitClass, typesClass, jvmConstantsGen,
@@ -42,6 +42,7 @@ import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BFutureType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -49,6 +50,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.compiler.util.Unifier;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -80,6 +82,7 @@ import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -176,6 +179,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SYNC_SEN
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.TRY_TAKE_DATA;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VALUE_OF_DECIMAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.WAIT_RESULT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen.genVarArg;
 
 /**
@@ -803,6 +807,13 @@ public class JvmTerminatorGen {
         // load self
         BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
         this.loadVar(selfArg);
+
+        Label doneLabel = null;
+        BIRNode.BIRFunction method = isBuiltInModule ? null : getDirectlyCalledMethod(callIns);
+        if (method != null) {
+            doneLabel = new Label();
+            this.genDirectMethodCall(callIns, method, localVarOffset, doneLabel);
+        }
         this.mv.visitTypeInsn(CHECKCAST, B_OBJECT);
 
         // load the strand
@@ -851,6 +862,83 @@ public class JvmTerminatorGen {
 
         BType returnType = callIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, returnType);
+        if (doneLabel != null) {
+            this.mv.visitLabel(doneLabel);
+        }
+    }
+
+    /**
+     * Returns the method called by a virtual call if the static type of self is a class defined in the current
+     * module, so that the method of the generated class can be called directly.
+     *
+     * @param callIns virtual call instruction
+     * @return the called method, or null if the method has to be called through `call`
+     */
+    private BIRNode.BIRFunction getDirectlyCalledMethod(BIRTerminator.Call callIns) {
+        BType selfType = JvmCodeGenUtil.getReferredType(callIns.args.get(0).variableDcl.type);
+        if (selfType.tsymbol == null || !Symbols.isFlagOn(selfType.tsymbol.flags, Flags.CLASS) ||
+                !JvmCodeGenUtil.getPackageName(selfType.tsymbol.pkgID).equals(this.currentPackageName)) {
+            return null;
+        }
+        String methodName = JvmCodeGenUtil.rewriteVirtualCallTypeName(callIns.name.value);
+        BIRFunctionWrapper functionWrapper = jvmPackageGen.lookupBIRFunctionWrapper(
+                this.currentPackageName + JvmCodeGenUtil.toNameString(selfType) + "." + methodName);
+        if (functionWrapper == null) {
+            return null;
+        }
+        BIRNode.BIRFunction method = functionWrapper.func;
+        BType retType = method.type.retType;
+        // Each argument is passed with a boolean that tells whether it was provided.
+        if ((callIns.args.size() - 1) * 2 != method.type.paramTypes.size() ||
+                (retType != null && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED))) {
+            return null;
+        }
+        return method;
+    }
+
+    /**
+     * Generates a call to the method of the generated class, used if self on the stack is an instance of that
+     * class. Otherwise, self is left on the stack for the call through `call`. This avoids the argument array, the
+     * boxing of the arguments and the lookup of the method by name.
+     */
+    private void genDirectMethodCall(BIRTerminator.Call callIns, BIRNode.BIRFunction method, int localVarOffset,
+                                     Label doneLabel) {
+        BType selfType = JvmCodeGenUtil.getReferredType(callIns.args.get(0).variableDcl.type);
+        String className = getTypeValueClassName(selfType.tsymbol.pkgID, JvmCodeGenUtil.toNameString(selfType));
+        Label dynamicCallLabel = new Label();
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, dynamicCallLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+
+        // load the strand
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        List<BType> paramTypes = method.type.paramTypes;
+        for (int i = 1; i < callIns.args.size(); i++) {
+            BIRArgument arg = callIns.args.get(i);
+            this.loadArgument(arg);
+            BType paramType = paramTypes.get((i - 1) * 2);
+            if (!JvmCodeGenUtil.getArgTypeSignature(paramType).equals(
+                    JvmCodeGenUtil.getArgTypeSignature(arg.variableDcl.type))) {
+                jvmCastGen.addBoxInsn(this.mv, arg.variableDcl.type);
+                jvmCastGen.addUnboxInsn(this.mv, paramType);
+            }
+            this.loadStateOfArgument(arg, false);
+        }
+        String methodDesc = JvmCodeGenUtil.getMethodDesc(paramTypes, method.type.retType);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, className, method.name.value, methodDesc, false);
+
+        BType retType = method.type.retType;
+        BType returnType = callIns.lhsOp.variableDcl.type;
+        String retDesc = JvmCodeGenUtil.generateReturnType(retType).substring(1);
+        if (!retDesc.equals(JvmCodeGenUtil.getArgTypeSignature(returnType))) {
+            if (retType != null && retType.tag != TypeTags.NIL && retType.tag != TypeTags.NEVER) {
+                jvmCastGen.addBoxInsn(this.mv, retType);
+            }
+            jvmCastGen.addUnboxInsn(this.mv, returnType);
+        }
+        this.mv.visitJumpInsn(GOTO, doneLabel);
+        this.mv.visitLabel(dynamicCallLabel);
     }
 
     private void loadStateOfArgument(BIRArgument arg, boolean isBuiltInModule) {
@@ -24,6 +24,7 @@ import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Opcodes;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.codegen.optimizer.YieldAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -43,9 +44,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
  */
 public class FrameClassGen {
 
-    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries) {
+    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries,
+                                     YieldAnalyzer yieldAnalyzer) {
         pkg.functions.forEach(
-                func -> generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null));
+                func -> generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null, yieldAnalyzer));
 
         for (BIRNode.BIRTypeDefinition typeDef : pkg.typeDefs) {
             List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
@@ -62,13 +64,17 @@ public class FrameClassGen {
                 attachedType = typeDef.type;
             }
             attachedFuncs.forEach(func -> generateFrameClassForFunction(
-                    pkg.packageID, func, pkgEntries, attachedType));
+                    pkg.packageID, func, pkgEntries, attachedType, yieldAnalyzer));
         }
     }
 
     private void generateFrameClassForFunction(PackageID packageID, BIRNode.BIRFunction func,
                                                Map<String, byte[]> pkgEntries,
-                                               BType attachedType) {
+                                               BType attachedType, YieldAnalyzer yieldAnalyzer) {
+        if (!yieldAnalyzer.canYield(func)) {
+            // the state of a function that never yields is never saved
+            return;
+        }
         String frameClassName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(packageID),
                                                                  func.name.value, attachedType);
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
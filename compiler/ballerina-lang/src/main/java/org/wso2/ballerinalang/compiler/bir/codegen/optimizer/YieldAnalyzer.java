@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Find the functions of a module that can never yield.
+ * <p>
+ * A function can yield only if it locks, waits, communicates with workers or calls a function that can yield. Calls
+ * to functions of other modules, external functions, methods and function pointers are assumed to be able to yield.
+ * The methods generated for the functions that can never yield do not need to save and restore their state, and
+ * their callers do not need to check whether the strand yielded after calling them.
+ *
+ * @since 2201.2.0
+ */
+public class YieldAnalyzer {
+
+    private final Set<BIRFunction> nonYieldingFunctions = new HashSet<>();
+    private final Map<String, BIRFunction> moduleFunctions = new HashMap<>();
+    private PackageID packageID;
+
+    public void analyze(BIRPackage birPkg) {
+        this.packageID = birPkg.packageID;
+        List<BIRFunction> functions = new ArrayList<>(birPkg.functions);
+        for (BIRFunction function : birPkg.functions) {
+            this.moduleFunctions.put(function.name.value, function);
+        }
+        for (BIRTypeDefinition typeDef : birPkg.typeDefs) {
+            functions.addAll(typeDef.attachedFuncs);
+        }
+
+        List<BIRFunction> callers = new ArrayList<>();
+        for (BIRFunction function : functions) {
+            if (hasOnlyNonYieldingTerminators(function)) {
+                this.nonYieldingFunctions.add(function);
+                callers.add(function);
+            }
+        }
+
+        // Functions that call functions that can yield can yield as well. Starting with all the candidates keeps the
+        // recursive functions that never reach a function that can yield.
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BIRFunction function : callers) {
+                if (this.nonYieldingFunctions.contains(function) && callsYieldingFunction(function)) {
+                    this.nonYieldingFunctions.remove(function);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    public boolean canYield(BIRFunction function) {
+        return !this.nonYieldingFunctions.contains(function);
+    }
+
+    public boolean canYield(BIRTerminator terminator) {
+        if (terminator.kind != InstructionKind.CALL) {
+            return true;
+        }
+        BIRFunction callee = getCallee((BIRTerminator.Call) terminator);
+        return callee == null || canYield(callee);
+    }
+
+    private boolean hasOnlyNonYieldingTerminators(BIRFunction function) {
+        if (JvmCodeGenUtil.isExternFunc(function) || function.workerChannels.length > 0 ||
+                function.basicBlocks.isEmpty()) {
+            return false;
+        }
+        for (BIRBasicBlock basicBlock : getBasicBlocks(function)) {
+            BIRTerminator terminator = basicBlock.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                    break;
+                case CALL:
+                    if (getCallee((BIRTerminator.Call) terminator) == null) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callsYieldingFunction(BIRFunction function) {
+        for (BIRBasicBlock basicBlock : getBasicBlocks(function)) {
+            if (basicBlock.terminator.kind == InstructionKind.CALL && canYield(basicBlock.terminator)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BIRFunction getCallee(BIRTerminator.Call call) {
+        if (call.isVirtual || !this.packageID.equals(call.calleePkg)) {
+            return null;
+        }
+        return this.moduleFunctions.get(call.name.value);
+    }
+
+    private List<BIRBasicBlock> getBasicBlocks(BIRFunction function) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(function.basicBlocks);
+        function.parameters.values().forEach(basicBlocks::addAll);
+        return basicBlocks;
+    }
+}
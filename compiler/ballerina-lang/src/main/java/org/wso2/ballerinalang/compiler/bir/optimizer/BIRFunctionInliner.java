@@ -0,0 +1,380 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.wso2.ballerinalang.compiler.bir.model.ArgumentState;
+import org.wso2.ballerinalang.compiler.bir.model.BIRArgument;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inline calls to small functions of the same module.
+ * <p>
+ * Only functions that do not call other functions are inlined, so the inlined code can neither yield nor recurse.
+ * The instructions of these functions are also limited to the ones that cannot panic, so that inlining does not
+ * remove frames from the stack traces of errors.
+ *
+ * @since 2201.2.0
+ */
+public class BIRFunctionInliner {
+
+    // Functions with more instructions than this are not inlined.
+    private static final int MAX_INLINED_FUNCTION_SIZE = 16;
+    // Calls are not inlined into functions that have more instructions than this, to keep the methods small.
+    private static final int MAX_CALLER_SIZE = 1000;
+    private static final String BIR_BASIC_BLOCK_PREFIX = "bb";
+    private static final String INLINED_VAR_PREFIX = "%inl";
+
+    private final Map<String, BIRFunction> inlinableFunctions = new HashMap<>();
+    private int nextBBId;
+    private int nextVarId;
+
+    public void optimizeNode(BIRPackage pkg) {
+        for (BIRFunction function : pkg.functions) {
+            if (isInlinable(function)) {
+                this.inlinableFunctions.put(function.name.value, function);
+            }
+        }
+        if (!this.inlinableFunctions.isEmpty()) {
+            for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+                typeDef.attachedFuncs.forEach(func -> inlineCalls(func, pkg));
+            }
+            pkg.functions.forEach(func -> inlineCalls(func, pkg));
+        }
+        this.inlinableFunctions.clear();
+    }
+
+    private boolean isInlinable(BIRFunction function) {
+        long excludedFlags = Flags.NATIVE | Flags.INTERFACE | Flags.WORKER | Flags.TRANSACTIONAL;
+        if ((function.flags & excludedFlags) != 0 || function.receiver != null || function.restParam != null ||
+                function.basicBlocks.isEmpty() || !function.errorTable.isEmpty() ||
+                !function.annotAttachments.isEmpty() || function.workerChannels.length != 0) {
+            return false;
+        }
+        for (List<BIRBasicBlock> defaultValueBBs : function.parameters.values()) {
+            if (!defaultValueBBs.isEmpty()) {
+                return false;
+            }
+        }
+        if (getSize(function) > MAX_INLINED_FUNCTION_SIZE) {
+            return false;
+        }
+        for (BIRBasicBlock bb : function.basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (!canInline(instruction)) {
+                    return false;
+                }
+            }
+            InstructionKind terminatorKind = bb.terminator.kind;
+            if (terminatorKind != InstructionKind.GOTO && terminatorKind != InstructionKind.BRANCH &&
+                    terminatorKind != InstructionKind.RETURN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean canInline(BIRNonTerminator instruction) {
+        switch (instruction.kind) {
+            case MOVE:
+            case CONST_LOAD:
+            case TYPE_TEST:
+            case IS_LIKE:
+            case OBJECT_LOAD:
+            case TYPEOF:
+            case NOT:
+            case EQUAL:
+            case NOT_EQUAL:
+            case REF_EQUAL:
+            case REF_NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case BITWISE_AND:
+            case BITWISE_OR:
+            case BITWISE_XOR:
+            case BITWISE_LEFT_SHIFT:
+            case BITWISE_RIGHT_SHIFT:
+            case BITWISE_UNSIGNED_RIGHT_SHIFT:
+                return true;
+            case TYPE_CAST:
+                return !((BIRNonTerminator.TypeCast) instruction).checkTypes;
+            case MAP_LOAD:
+                BIRNonTerminator.FieldAccess mapLoad = (BIRNonTerminator.FieldAccess) instruction;
+                return !mapLoad.fillingRead &&
+                        Types.getReferredType(mapLoad.rhsOp.variableDcl.type).tag != TypeTags.JSON;
+            case ADD:
+                // Integer and decimal arithmetic panics on overflow, but float arithmetic and string concatenation
+                // do not.
+                int tag = Types.getReferredType(instruction.lhsOp.variableDcl.type).tag;
+                return tag == TypeTags.FLOAT || TypeTags.isStringTypeTag(tag);
+            case SUB:
+            case MUL:
+            case DIV:
+            case MOD:
+            case NEGATE:
+                return Types.getReferredType(instruction.lhsOp.variableDcl.type).tag == TypeTags.FLOAT;
+            default:
+                return false;
+        }
+    }
+
+    private void inlineCalls(BIRFunction caller, BIRPackage pkg) {
+        // The blocks of an error entry are found by their positions, which the inlined blocks would change.
+        if (!caller.errorTable.isEmpty()) {
+            return;
+        }
+        int callerSize = getSize(caller);
+        this.nextBBId = getNextBBId(caller);
+        this.nextVarId = 0;
+        List<BIRBasicBlock> basicBlocks = caller.basicBlocks;
+        for (int i = 0; i < basicBlocks.size(); i++) {
+            BIRBasicBlock bb = basicBlocks.get(i);
+            if (bb.terminator.kind != InstructionKind.CALL) {
+                continue;
+            }
+            BIRTerminator.Call call = (BIRTerminator.Call) bb.terminator;
+            BIRFunction callee = getInlinedFunction(call, pkg);
+            if (callee == null) {
+                continue;
+            }
+            int calleeSize = getSize(callee);
+            if (callerSize + calleeSize > MAX_CALLER_SIZE) {
+                continue;
+            }
+            List<BIRBasicBlock> inlinedBBs = inlineCall(caller, bb, call, callee);
+            basicBlocks.addAll(i + 1, inlinedBBs);
+            i += inlinedBBs.size();
+            callerSize += calleeSize;
+        }
+    }
+
+    private BIRFunction getInlinedFunction(BIRTerminator.Call call, BIRPackage pkg) {
+        if (call.isVirtual || call.transactional || !call.calleePkg.equals(pkg.packageID)) {
+            return null;
+        }
+        BIRFunction callee = this.inlinableFunctions.get(call.name.value);
+        if (callee == null || call.args.size() != callee.parameters.size()) {
+            return null;
+        }
+        for (BIRArgument arg : call.args) {
+            if (arg.argState != ArgumentState.PROVIDED) {
+                return null;
+            }
+        }
+        return callee;
+    }
+
+    /**
+     * Replaces a call with a copy of the blocks of the called function and returns the copied blocks.
+     */
+    private List<BIRBasicBlock> inlineCall(BIRFunction caller, BIRBasicBlock bb, BIRTerminator.Call call,
+                                           BIRFunction callee) {
+        Location pos = call.pos;
+        BirScope scope = call.scope;
+        Map<BIRVariableDcl, BIRVariableDcl> varMap = new HashMap<>();
+        List<BIRVariableDcl> inlinedVars = new ArrayList<>();
+
+        // Parameters are not assigned to, so an argument can be used in place of its parameter if it is a local
+        // variable of the same type. Other arguments are copied to new variables.
+        Set<BIRVariableDcl> assignedVars = getAssignedVars(callee);
+        int argIndex = 0;
+        for (BIRFunctionParameter param : callee.parameters.keySet()) {
+            BIRVariableDcl argVar = call.args.get(argIndex++).variableDcl;
+            if (argVar.type == param.type && argVar.scope == VarScope.FUNCTION && !assignedVars.contains(param)) {
+                argVar.onlyUsedInSingleBB = false;
+                varMap.put(param, argVar);
+                continue;
+            }
+            BIRVariableDcl paramVar = getInlinedVar(param, varMap, inlinedVars);
+            addInstruction(bb, new BIRNonTerminator.Move(pos, new BIROperand(argVar), new BIROperand(paramVar)),
+                           scope);
+        }
+
+        Map<BIRBasicBlock, BIRBasicBlock> bbMap = new HashMap<>();
+        List<BIRBasicBlock> inlinedBBs = new ArrayList<>();
+        for (BIRBasicBlock calleeBB : callee.basicBlocks) {
+            BIRBasicBlock inlinedBB = new BIRBasicBlock(new Name(BIR_BASIC_BLOCK_PREFIX + this.nextBBId++));
+            bbMap.put(calleeBB, inlinedBB);
+            inlinedBBs.add(inlinedBB);
+        }
+        for (BIRBasicBlock calleeBB : callee.basicBlocks) {
+            BIRBasicBlock inlinedBB = bbMap.get(calleeBB);
+            for (BIRNonTerminator instruction : calleeBB.instructions) {
+                addInstruction(inlinedBB, copyInstruction(instruction, pos, varMap, inlinedVars), scope);
+            }
+            BIRTerminator terminator = calleeBB.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                    inlinedBB.terminator = new BIRTerminator.GOTO(null,
+                            bbMap.get(((BIRTerminator.GOTO) terminator).targetBB), scope);
+                    break;
+                case BRANCH:
+                    BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+                    inlinedBB.terminator = new BIRTerminator.Branch(pos,
+                            getInlinedOperand(branch.op, varMap, inlinedVars), bbMap.get(branch.trueBB),
+                            bbMap.get(branch.falseBB), scope);
+                    break;
+                default:
+                    // A return moves the return value to the result of the call and continues after the call.
+                    if (call.lhsOp != null) {
+                        BIRVariableDcl returnVar = getInlinedVar(callee.returnVariable, varMap, inlinedVars);
+                        call.lhsOp.variableDcl.onlyUsedInSingleBB = false;
+                        addInstruction(inlinedBB, new BIRNonTerminator.Move(pos, new BIROperand(returnVar),
+                                new BIROperand(call.lhsOp.variableDcl)), scope);
+                    }
+                    inlinedBB.terminator = new BIRTerminator.GOTO(null, call.thenBB, scope);
+                    break;
+            }
+        }
+        bb.terminator = new BIRTerminator.GOTO(null, bbMap.get(callee.basicBlocks.get(0)), scope);
+
+        caller.localVars.addAll(inlinedVars);
+        if (caller.dependentGlobalVars != null && callee.dependentGlobalVars != null) {
+            caller.dependentGlobalVars.addAll(callee.dependentGlobalVars);
+        }
+        return inlinedBBs;
+    }
+
+    private BIRNonTerminator copyInstruction(BIRNonTerminator instruction, Location pos,
+                                             Map<BIRVariableDcl, BIRVariableDcl> varMap,
+                                             List<BIRVariableDcl> inlinedVars) {
+        BIROperand lhsOp = getInlinedOperand(instruction.lhsOp, varMap, inlinedVars);
+        switch (instruction.kind) {
+            case MOVE:
+                BIRNonTerminator.Move move = (BIRNonTerminator.Move) instruction;
+                return new BIRNonTerminator.Move(pos, getInlinedOperand(move.rhsOp, varMap, inlinedVars), lhsOp);
+            case CONST_LOAD:
+                BIRNonTerminator.ConstantLoad constantLoad = (BIRNonTerminator.ConstantLoad) instruction;
+                return new BIRNonTerminator.ConstantLoad(pos, constantLoad.value, constantLoad.type, lhsOp);
+            case TYPE_TEST:
+                BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) instruction;
+                return new BIRNonTerminator.TypeTest(pos, typeTest.type, lhsOp,
+                                                     getInlinedOperand(typeTest.rhsOp, varMap, inlinedVars));
+            case IS_LIKE:
+                BIRNonTerminator.IsLike isLike = (BIRNonTerminator.IsLike) instruction;
+                return new BIRNonTerminator.IsLike(pos, isLike.type, lhsOp,
+                                                   getInlinedOperand(isLike.rhsOp, varMap, inlinedVars));
+            case TYPE_CAST:
+                BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                return new BIRNonTerminator.TypeCast(pos, lhsOp,
+                                                     getInlinedOperand(typeCast.rhsOp, varMap, inlinedVars),
+                                                     typeCast.type, typeCast.checkTypes);
+            case MAP_LOAD:
+            case OBJECT_LOAD:
+                BIRNonTerminator.FieldAccess fieldAccess = (BIRNonTerminator.FieldAccess) instruction;
+                BIRNonTerminator.FieldAccess fieldAccessCopy = new BIRNonTerminator.FieldAccess(pos,
+                        fieldAccess.kind, lhsOp, getInlinedOperand(fieldAccess.keyOp, varMap, inlinedVars),
+                        getInlinedOperand(fieldAccess.rhsOp, varMap, inlinedVars), fieldAccess.optionalFieldAccess,
+                        fieldAccess.fillingRead);
+                fieldAccessCopy.onInitialization = fieldAccess.onInitialization;
+                fieldAccessCopy.fieldName = fieldAccess.fieldName;
+                return fieldAccessCopy;
+            case TYPEOF:
+            case NOT:
+            case NEGATE:
+                BIRNonTerminator.UnaryOP unaryOp = (BIRNonTerminator.UnaryOP) instruction;
+                return new BIRNonTerminator.UnaryOP(pos, unaryOp.kind, lhsOp,
+                                                    getInlinedOperand(unaryOp.rhsOp, varMap, inlinedVars));
+            default:
+                BIRNonTerminator.BinaryOp binaryOp = (BIRNonTerminator.BinaryOp) instruction;
+                return new BIRNonTerminator.BinaryOp(pos, binaryOp.kind, lhsOp.variableDcl.type, lhsOp,
+                                                     getInlinedOperand(binaryOp.rhsOp1, varMap, inlinedVars),
+                                                     getInlinedOperand(binaryOp.rhsOp2, varMap, inlinedVars));
+        }
+    }
+
+    private BIROperand getInlinedOperand(BIROperand operand, Map<BIRVariableDcl, BIRVariableDcl> varMap,
+                                         List<BIRVariableDcl> inlinedVars) {
+        return new BIROperand(getInlinedVar(operand.variableDcl, varMap, inlinedVars));
+    }
+
+    private BIRVariableDcl getInlinedVar(BIRVariableDcl var, Map<BIRVariableDcl, BIRVariableDcl> varMap,
+                                         List<BIRVariableDcl> inlinedVars) {
+        // Module level variables are shared with the caller.
+        if (var.scope != VarScope.FUNCTION) {
+            return var;
+        }
+        BIRVariableDcl inlinedVar = varMap.get(var);
+        if (inlinedVar == null) {
+            inlinedVar = new BIRVariableDcl(var.type, new Name(INLINED_VAR_PREFIX + this.nextVarId++),
+                                            VarScope.FUNCTION, VarKind.TEMP);
+            varMap.put(var, inlinedVar);
+            inlinedVars.add(inlinedVar);
+        }
+        return inlinedVar;
+    }
+
+    private Set<BIRVariableDcl> getAssignedVars(BIRFunction function) {
+        Set<BIRVariableDcl> assignedVars = new HashSet<>();
+        for (BIRBasicBlock bb : function.basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                assignedVars.add(instruction.lhsOp.variableDcl);
+            }
+        }
+        return assignedVars;
+    }
+
+    private void addInstruction(BIRBasicBlock bb, BIRNonTerminator instruction, BirScope scope) {
+        instruction.scope = scope;
+        bb.instructions.add(instruction);
+    }
+
+    private int getNextBBId(BIRFunction function) {
+        int maxBBId = -1;
+        List<BIRBasicBlock> allBBs = new ArrayList<>(function.basicBlocks);
+        function.parameters.values().forEach(allBBs::addAll);
+        for (BIRBasicBlock bb : allBBs) {
+            maxBBId = Math.max(maxBBId, Integer.parseInt(bb.id.value.replace(BIR_BASIC_BLOCK_PREFIX, "")));
+        }
+        return maxBBId + 1;
+    }
+
+    private int getSize(BIRFunction function) {
+        int size = 0;
+        for (BIRBasicBlock bb : function.basicBlocks) {
+            size += bb.instructions.size() + 1;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Narrow the types of local variables that are declared with a union or `any` type, but only ever hold values of a
+ * single one of the `int`, `float` or `boolean` types.
+ * <p>
+ * Such variables are given the primitive type, so that they are kept unboxed in the generated methods. A variable is
+ * narrowed only if it is assigned by casts from that primitive type or by moves from other narrowed variables, and
+ * does not escape, i.e. it is only read by moves to other narrowed variables, by `typeof` and by casts that cannot
+ * fail for the primitive type.
+ * <p>
+ * The types of the local variables declared in the source are shown by the debugger, so they are only narrowed when
+ * the code is not built to be debugged. The temporary and synthetic variables are narrowed either way.
+ *
+ * @since 2201.2.0
+ */
+public class BIRLocalVarNarrower {
+
+    private final Types types;
+    private final boolean narrowDeclaredVars;
+
+    public BIRLocalVarNarrower(Types types, boolean narrowDeclaredVars) {
+        this.types = types;
+        this.narrowDeclaredVars = narrowDeclaredVars;
+    }
+
+    public void optimizeNode(BIRPackage pkg) {
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            typeDef.attachedFuncs.forEach(this::narrowLocalVars);
+        }
+        pkg.functions.forEach(this::narrowLocalVars);
+    }
+
+    private void narrowLocalVars(BIRFunction function) {
+        Set<BIRVariableDcl> candidates = new HashSet<>();
+        for (BIRVariableDcl localVar : function.localVars) {
+            if (isCandidate(localVar)) {
+                candidates.add(localVar);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(function.basicBlocks);
+        function.parameters.values().forEach(basicBlocks::addAll);
+
+        VarGroups groups = new VarGroups();
+        Map<BIRVariableDcl, BType> narrowedTypes = new HashMap<>();
+        Map<BIRVariableDcl, List<BType>> castTypes = new HashMap<>();
+        Set<BIRVariableDcl> escapingVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                analyzeInstruction(instruction, candidates, groups, narrowedTypes, castTypes, escapingVars);
+            }
+            if (basicBlock.terminator != null) {
+                markEscapingVars(basicBlock.terminator, candidates, escapingVars);
+            }
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            if (candidates.contains(errorEntry.errorOp.variableDcl)) {
+                escapingVars.add(errorEntry.errorOp.variableDcl);
+            }
+        }
+
+        // All the variables connected by moves hold the same values, so they can only be narrowed together.
+        Map<BIRVariableDcl, BType> groupTypes = new HashMap<>();
+        Set<BIRVariableDcl> invalidGroups = new HashSet<>();
+        for (BIRVariableDcl candidate : candidates) {
+            BIRVariableDcl group = groups.find(candidate);
+            if (escapingVars.contains(candidate)) {
+                invalidGroups.add(group);
+                continue;
+            }
+            BType narrowedType = narrowedTypes.get(candidate);
+            if (narrowedType == null) {
+                continue;
+            }
+            BType groupType = groupTypes.putIfAbsent(group, narrowedType);
+            if (groupType != null && groupType.tag != narrowedType.tag) {
+                invalidGroups.add(group);
+            }
+        }
+        for (Map.Entry<BIRVariableDcl, List<BType>> entry : castTypes.entrySet()) {
+            BIRVariableDcl group = groups.find(entry.getKey());
+            BType groupType = groupTypes.get(group);
+            if (groupType == null) {
+                continue;
+            }
+            for (BType castType : entry.getValue()) {
+                if (!this.types.isAssignable(groupType, castType)) {
+                    invalidGroups.add(group);
+                    break;
+                }
+            }
+        }
+
+        Set<BIRVariableDcl> narrowedVars = new HashSet<>();
+        for (BIRVariableDcl candidate : candidates) {
+            BIRVariableDcl group = groups.find(candidate);
+            BType groupType = groupTypes.get(group);
+            if (groupType != null && !invalidGroups.contains(group)) {
+                candidate.type = groupType;
+                narrowedVars.add(candidate);
+            }
+        }
+        if (narrowedVars.isEmpty()) {
+            return;
+        }
+
+        // The casts that boxed the values assigned to the narrowed variables become moves.
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator instruction = instructions.get(i);
+                if (instruction.kind == InstructionKind.TYPE_CAST &&
+                        narrowedVars.contains(instruction.lhsOp.variableDcl)) {
+                    BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                    BIRNonTerminator.Move move = new BIRNonTerminator.Move(typeCast.pos, typeCast.rhsOp,
+                                                                           typeCast.lhsOp);
+                    move.scope = typeCast.scope;
+                    instructions.set(i, move);
+                }
+            }
+        }
+    }
+
+    private void analyzeInstruction(BIRNonTerminator instruction, Set<BIRVariableDcl> candidates, VarGroups groups,
+                                    Map<BIRVariableDcl, BType> narrowedTypes,
+                                    Map<BIRVariableDcl, List<BType>> castTypes, Set<BIRVariableDcl> escapingVars) {
+        BIRVariableDcl lhsVar = instruction.lhsOp == null ? null : instruction.lhsOp.variableDcl;
+        switch (instruction.kind) {
+            case MOVE:
+                BIRVariableDcl rhsVar = ((BIRNonTerminator.Move) instruction).rhsOp.variableDcl;
+                if (candidates.contains(lhsVar) && candidates.contains(rhsVar)) {
+                    groups.union(lhsVar, rhsVar);
+                    return;
+                }
+                break;
+            case TYPE_CAST:
+                BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                BIRVariableDcl sourceVar = typeCast.rhsOp.variableDcl;
+                if (candidates.contains(sourceVar)) {
+                    castTypes.computeIfAbsent(sourceVar, var -> new ArrayList<>()).add(typeCast.type);
+                    if (candidates.contains(lhsVar)) {
+                        escapingVars.add(lhsVar);
+                    }
+                    return;
+                }
+                if (candidates.contains(lhsVar)) {
+                    if (isPrimitiveType(sourceVar.type) && this.types.isAssignable(sourceVar.type, typeCast.type)) {
+                        BType narrowedType = narrowedTypes.putIfAbsent(lhsVar, sourceVar.type);
+                        if (narrowedType != null && narrowedType.tag != sourceVar.type.tag) {
+                            escapingVars.add(lhsVar);
+                        }
+                    } else {
+                        escapingVars.add(lhsVar);
+                    }
+                    return;
+                }
+                break;
+            case TYPEOF:
+                if (candidates.contains(lhsVar)) {
+                    escapingVars.add(lhsVar);
+                }
+                // `typeof` boxes primitive values, so reading a narrowed variable is fine.
+                return;
+            default:
+                break;
+        }
+        markEscapingVars(instruction, candidates, escapingVars);
+    }
+
+    private void markEscapingVars(BIRAbstractInstruction instruction, Set<BIRVariableDcl> candidates,
+                                  Set<BIRVariableDcl> escapingVars) {
+        if (instruction.lhsOp != null && candidates.contains(instruction.lhsOp.variableDcl)) {
+            escapingVars.add(instruction.lhsOp.variableDcl);
+        }
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            if (operand != null && candidates.contains(operand.variableDcl)) {
+                escapingVars.add(operand.variableDcl);
+            }
+        }
+    }
+
+    private boolean isCandidate(BIRVariableDcl variableDcl) {
+        if (variableDcl.scope != VarScope.FUNCTION) {
+            return false;
+        }
+        if (variableDcl.kind != VarKind.TEMP && variableDcl.kind != VarKind.SYNTHETIC &&
+                (variableDcl.kind != VarKind.LOCAL || !narrowDeclaredVars)) {
+            return false;
+        }
+        switch (Types.getReferredType(variableDcl.type).tag) {
+            case TypeTags.UNION:
+            case TypeTags.ANY:
+            case TypeTags.ANYDATA:
+            case TypeTags.JSON:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isPrimitiveType(BType type) {
+        return type.tag == TypeTags.INT || type.tag == TypeTags.FLOAT || type.tag == TypeTags.BOOLEAN;
+    }
+
+    /**
+     * Disjoint sets of the variables connected by moves.
+     */
+    private static class VarGroups {
+
+        private final Map<BIRVariableDcl, BIRVariableDcl> parents = new HashMap<>();
+
+        BIRVariableDcl find(BIRVariableDcl variableDcl) {
+            BIRVariableDcl parent = this.parents.get(variableDcl);
+            if (parent == null) {
+                return variableDcl;
+            }
+            BIRVariableDcl root = find(parent);
+            this.parents.put(variableDcl, root);
+            return root;
+        }
+
+        void union(BIRVariableDcl first, BIRVariableDcl second) {
+            BIRVariableDcl firstRoot = find(first);
+            BIRVariableDcl secondRoot = find(second);
+            if (!firstRoot.equals(secondRoot)) {
+                this.parents.put(firstRoot, secondRoot);
+            }
+        }
+    }
+}
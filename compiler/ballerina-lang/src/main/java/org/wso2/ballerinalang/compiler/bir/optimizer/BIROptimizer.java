@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRArgument;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -33,8 +34,10 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -60,6 +63,9 @@ public class BIROptimizer {
     private final BIRLockOptimizer lockOptimizer;
 //    private final BirVariableOptimizer variableOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final BIRLocalVarNarrower localVarNarrower;
+    private final boolean inliningDisabled;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -77,9 +83,22 @@ public class BIROptimizer {
         this.lockOptimizer = new BIRLockOptimizer();
 //        this.variableOptimizer = new BirVariableOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
+        this.functionInliner = new BIRFunctionInliner();
+        // Inlining is disabled when the code is built to be debugged, so the declared local variables keep their
+        // types as well.
+        this.inliningDisabled = Boolean.parseBoolean(CompilerOptions.getInstance(context)
+                .get(CompilerOptionName.DISABLE_INLINING));
+        this.localVarNarrower = new BIRLocalVarNarrower(Types.getInstance(context), !this.inliningDisabled);
     }
 
-    public void optimizePackage(BIRPackage pkg) {
+    /**
+     * Optimize the BIR of a package.
+     *
+     * @param pkg             BIR package
+     * @param inlineFunctions whether calls to small functions of the package can be inlined, which must not be done
+     *                        if the functions can be mocked
+     */
+    public void optimizePackage(BIRPackage pkg, boolean inlineFunctions) {
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
 
@@ -90,6 +109,14 @@ public class BIROptimizer {
         this.lockOptimizer.optimizeNode(pkg);
 //        variableOptimizer.optimizeNode(pkg);
 
+        // Inline calls to small functions
+        if (inlineFunctions && !this.inliningDisabled) {
+            this.functionInliner.optimizeNode(pkg);
+        }
+
+        // Keep the local variables that only hold int, float or boolean values unboxed
+        this.localVarNarrower.optimizeNode(pkg);
+
         // Optimize BB - unnecessary goto removal
         bbOptimizer.optimizeNode(pkg, null);
     }
@@ -22,6 +22,7 @@ import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
 import org.ballerinalang.model.types.TypeKind;
@@ -33,6 +34,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
@@ -169,6 +171,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -188,6 +191,8 @@ import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
  */
 public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_PIPELINE_FUNCTION = new Name("createPipeline");
+    private static final Name QUERY_CREATE_ISOLATED_PIPELINE_FUNCTION = new Name("createIsolatedPipeline");
+    private static final Name QUERY_GET_INDEXED_ROWS_FUNCTION = new Name("getIndexedRows");
     private static final Name QUERY_CREATE_INPUT_FUNCTION = new Name("createInputFunction");
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
@@ -256,8 +261,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        // Isolated queries that are not lazily evaluated as streams may be evaluated concurrently.
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.getBType(), env,
-                queryBlock, stmtsToBePropagated);
+                queryBlock, stmtsToBePropagated, queryExpr.isIsolated && !queryExpr.isStream, queryExpr.isStream);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
             streamStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, streamRef);
@@ -339,7 +345,8 @@ public class QueryDesugar extends BLangNodeVisitor {
             returnType = ((BInvokableType) invokableSymbol.type).retType;
         }
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, returnType, env, queryBlock, stmtsToBePropagated);
+        BLangVariableReference streamRef = buildStream(clauses, returnType, env, queryBlock, stmtsToBePropagated,
+                false, false);
         BLangVariableReference result = getStreamFunctionVariableRef(queryBlock,
                 QUERY_CONSUME_STREAM_FUNCTION, returnType, Lists.of(streamRef), pos);
         BLangStatementExpression stmtExpr;
@@ -375,14 +382,22 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param env symbol env.
      * @param block parent block to write to.
      * @param stmtsToBePropagated list of statements to be propagated.
+     * @param isolated whether the clauses are isolated and the query is evaluated eagerly.
+     * @param isStream whether the query is evaluated lazily as a stream.
      * @return variableReference to created _StreamPipeline.
      */
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env,
-                                       BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
+                                       BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated,
+                                       boolean isolated, boolean isStream) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        BLangExpression initCollection = initFromClause.collection;
+        // A stream is consumed after the query is evaluated, when the rows looked up beforehand may be stale.
+        if (!isStream && clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE) {
+            initCollection = getIndexedCollection(initFromClause, (BLangWhereClause) clauses.get(1));
+        }
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType, true);
+                initCollection, resultType, true, isolated);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -398,7 +413,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
-                            joinClause.collection, resultType, false);
+                            joinClause.collection, resultType, false, false);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause, stmtsToBePropagated);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
                     BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline,
@@ -452,11 +467,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param collection reference to the collection.
      * @param resultType constraint type of the collection.
      * @param assignErrorToResult should the error be assigned to result.
+     * @param isolated whether the clauses are isolated and the query is evaluated eagerly.
      * @return variableReference to created _StreamPipeline.
      */
     BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos,
                                        BLangExpression collection, BType resultType,
-                                       boolean assignErrorToResult) {
+                                       boolean assignErrorToResult, boolean isolated) {
         String name = getNewVarName();
         if (assignErrorToResult) {
             //unwrapping the check expression so that error will be propagated to the pipeline
@@ -487,10 +503,194 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangTypedescExpr completionTdExpr = new BLangTypedescExpr();
         completionTdExpr.resolvedType = completionType;
         completionTdExpr.setBType(completionTdType);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
+        Name createPipelineFunction = isolated ? QUERY_CREATE_ISOLATED_PIPELINE_FUNCTION :
+                QUERY_CREATE_PIPELINE_FUNCTION;
+        return getStreamFunctionVariableRef(blockStmt, createPipelineFunction,
                 Lists.of(valueVarRef, constraintTdExpr, completionTdExpr), pos);
     }
 
+    /**
+     * Desugar the collection of the initial from clause to below when the where clause that follows it compares a
+     * field of the rows of a table with a value that cannot change during the query, so that only the candidate rows
+     * are iterated. The where clause is still applied to the candidate rows, so it must not have side effects that
+     * would be skipped for the other rows.
+     * getIndexedRows(table, "field", "==", value);
+     *
+     * @param fromClause  initial from clause.
+     * @param whereClause where clause following the from clause.
+     * @return the expression to iterate, or the collection of the from clause if the rows cannot be looked up.
+     */
+    private BLangExpression getIndexedCollection(BLangFromClause fromClause, BLangWhereClause whereClause) {
+        BLangExpression collection = unwrapGroupExpression(fromClause.collection);
+        BType collectionType = Types.getReferredType(collection.getBType());
+        if (collection.getKind() != NodeKind.SIMPLE_VARIABLE_REF || collectionType.tag != TypeTags.TABLE
+                || fromClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return fromClause.collection;
+        }
+        if (!isSideEffectFree(whereClause.expression)) {
+            return fromClause.collection;
+        }
+        BVarSymbol rowSymbol = ((BLangSimpleVariable) fromClause.variableDefinitionNode.getVariable()).symbol;
+        BLangBinaryExpr comparison = findIndexableComparison(whereClause.expression, rowSymbol);
+        if (comparison == null) {
+            return fromClause.collection;
+        }
+
+        // Normalize the comparison to `row.field <op> value`.
+        boolean fieldOnLhs = isIndexableFieldAccess(comparison.lhsExpr, rowSymbol);
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) unwrapGroupExpression(
+                fieldOnLhs ? comparison.lhsExpr : comparison.rhsExpr);
+        BLangExpression value = unwrapGroupExpression(fieldOnLhs ? comparison.rhsExpr : comparison.lhsExpr);
+        OperatorKind operator = fieldOnLhs ? comparison.opKind : getMirroredOperator(comparison.opKind);
+
+        Location pos = whereClause.pos;
+        BType literalType = types.isAssignable(value.getBType(), symTable.intType) ? symTable.intType :
+                symTable.stringType;
+        BLangExpression valueExpr;
+        if (value.getKind() == NodeKind.LITERAL || value.getKind() == NodeKind.NUMERIC_LITERAL) {
+            valueExpr = ASTBuilderUtil.createLiteral(pos, literalType, ((BLangLiteral) value).value);
+        } else if (value.getKind() == NodeKind.CONSTANT_REF) {
+            valueExpr = ASTBuilderUtil.createLiteral(pos, literalType, ((BLangConstRef) value).value);
+        } else {
+            valueExpr = ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) ((BLangSimpleVarRef) value).symbol);
+        }
+        BLangExpression tableExpr = ASTBuilderUtil.createVariableRef(pos,
+                (BVarSymbol) ((BLangSimpleVarRef) collection).symbol);
+        return createQueryLibInvocation(QUERY_GET_INDEXED_ROWS_FUNCTION,
+                Lists.of(tableExpr, ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldAccess.field.value),
+                        ASTBuilderUtil.createLiteral(pos, symTable.stringType, operator.value()),
+                        desugar.addConversionExprIfRequired(valueExpr, symTable.anyOrErrorType)), pos);
+    }
+
+    // Checks for a condition that only compares values, so that evaluating it for fewer rows is not observable
+    private boolean isSideEffectFree(BLangExpression expression) {
+        BLangExpression expr = unwrapGroupExpression(expression);
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+            case SIMPLE_VARIABLE_REF:
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                BLangExpression recordExpr = ((BLangFieldBasedAccess) expr).expr;
+                return Types.getReferredType(recordExpr.getBType()).tag == TypeTags.RECORD
+                        && isSideEffectFree(recordExpr);
+            case TYPE_TEST_EXPR:
+                return isSideEffectFree(((BLangTypeTestExpr) expr).expr);
+            case UNARY_EXPR:
+                BLangUnaryExpr unaryExpr = (BLangUnaryExpr) expr;
+                return unaryExpr.operator == OperatorKind.NOT && isSideEffectFree(unaryExpr.expr);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                switch (binaryExpr.opKind) {
+                    case AND:
+                    case OR:
+                    case EQUAL:
+                    case NOT_EQUAL:
+                    case REF_EQUAL:
+                    case REF_NOT_EQUAL:
+                    case LESS_THAN:
+                    case LESS_EQUAL:
+                    case GREATER_THAN:
+                    case GREATER_EQUAL:
+                        return isSideEffectFree(binaryExpr.lhsExpr) && isSideEffectFree(binaryExpr.rhsExpr);
+                    default:
+                        // Arithmetic operations may panic.
+                        return false;
+                }
+            default:
+                return false;
+        }
+    }
+
+    private BLangBinaryExpr findIndexableComparison(BLangExpression expression, BVarSymbol rowSymbol) {
+        BLangExpression expr = unwrapGroupExpression(expression);
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                BLangBinaryExpr comparison = findIndexableComparison(binaryExpr.lhsExpr, rowSymbol);
+                return comparison != null ? comparison : findIndexableComparison(binaryExpr.rhsExpr, rowSymbol);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                if (isIndexableFieldAccess(binaryExpr.lhsExpr, rowSymbol)
+                        && isIndexableValue(binaryExpr.rhsExpr, binaryExpr.lhsExpr.getBType(), rowSymbol)) {
+                    return binaryExpr;
+                }
+                if (isIndexableFieldAccess(binaryExpr.rhsExpr, rowSymbol)
+                        && isIndexableValue(binaryExpr.lhsExpr, binaryExpr.rhsExpr.getBType(), rowSymbol)) {
+                    return binaryExpr;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    // Checks for `row.field` where the field is an int or a string field of a record
+    private boolean isIndexableFieldAccess(BLangExpression expression, BVarSymbol rowSymbol) {
+        BLangExpression expr = unwrapGroupExpression(expression);
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        BLangExpression rowExpr = fieldAccess.expr;
+        return !fieldAccess.optionalFieldAccess && rowExpr.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                && ((BLangSimpleVarRef) rowExpr).symbol == rowSymbol
+                && Types.getReferredType(rowExpr.getBType()).tag == TypeTags.RECORD
+                && isIndexableType(fieldAccess.getBType());
+    }
+
+    // Checks for a literal, a constant or a final local variable other than the row, whose value cannot change while
+    // the query is evaluated
+    private boolean isIndexableValue(BLangExpression expression, BType fieldType, BVarSymbol rowSymbol) {
+        BLangExpression expr = unwrapGroupExpression(expression);
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                break;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == rowSymbol || !(symbol instanceof BVarSymbol) || (symbol.tag & SymTag.VARIABLE) == 0
+                        || (symbol.owner.tag & SymTag.PACKAGE) == SymTag.PACKAGE
+                        || !(Symbols.isFlagOn(symbol.flags, Flags.FINAL)
+                        || Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL))) {
+                    return false;
+                }
+                break;
+            default:
+                return false;
+        }
+        BType valueType = expr.getBType();
+        return isIndexableType(valueType) && (types.isAssignable(fieldType, symTable.intType) ?
+                types.isAssignable(valueType, symTable.intType) : types.isAssignable(valueType, symTable.stringType));
+    }
+
+    private boolean isIndexableType(BType type) {
+        return types.isAssignable(type, symTable.intType) || types.isAssignable(type, symTable.stringType);
+    }
+
+    private OperatorKind getMirroredOperator(OperatorKind operator) {
+        switch (operator) {
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return operator;
+        }
+    }
+
     /**
      * Desugar inputClause to below and return a reference to created from _StreamFunction.
      * _StreamFunction xsFrom = createFromFunction(function(_Frame frame) returns _Frame|error? {
@@ -1747,9 +1747,15 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryExpr queryExpr) {
+        boolean prevInferredIsolated = this.inferredIsolated;
+        this.inferredIsolated = true;
+
         for (BLangNode clause : queryExpr.getQueryClauses()) {
             analyzeNode(clause, env);
         }
+
+        queryExpr.isIsolated = this.inferredIsolated;
+        this.inferredIsolated = prevInferredIsolated && this.inferredIsolated;
     }
 
     @Override
@@ -46,6 +46,10 @@ public class BLangQueryExpr extends BLangExpression implements QueryExpressionNo
     public boolean isTable = false;
     public boolean isMap = false;
 
+    // Semantic Data
+    // Whether the clauses only do what an isolated function may do, so that they can be evaluated concurrently.
+    public boolean isIsolated = false;
+
     @Override
     public BLangSelectClause getSelectClause() {
         for (BLangNode clause : queryClauseList) {
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 
 /**
  * Native implementation of lang.map.MapIterator:next().
@@ -39,10 +40,13 @@ import io.ballerina.runtime.api.values.BObject;
 //        isPublic = true
 //)
 public class Next {
-    //TODO: refactor hard coded values
+
+    private static final BString MAP_FIELD = StringUtils.fromString("m");
+    private static final BString VALUE_FIELD = StringUtils.fromString("value");
+
     public static Object next(BObject m) {
         BIterator mapIterator = (BIterator) m.getNativeData("&iterator&");
-        BMap bMap = (BMap) m.get(StringUtils.fromString("m"));
+        BMap bMap = (BMap) m.get(MAP_FIELD);
         if (mapIterator == null) {
             mapIterator = bMap.getIterator();
             m.addNativeData("&iterator&", mapIterator);
@@ -50,8 +54,10 @@ public class Next {
 
         if (mapIterator.hasNext()) {
             BArray keyValueTuple = (BArray) mapIterator.next();
-            return ValueCreator.createRecordValue(ValueCreator.createRecordValue(
-                    (RecordType) bMap.getIteratorNextReturnType()), keyValueTuple.get(1));
+            BMap<BString, Object> result =
+                    ValueCreator.createRecordValue((RecordType) bMap.getIteratorNextReturnType());
+            result.put(VALUE_FIELD, keyValueTuple.get(1));
+            return result;
         }
 
         return null;
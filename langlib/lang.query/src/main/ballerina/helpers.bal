@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/lang.'xml;
 
 function createPipeline(
@@ -23,6 +24,97 @@ function createPipeline(
     return new _StreamPipeline(collection, constraintTd, completionTd);
 }
 
+# Creates the pipeline of a query expression that is evaluated eagerly and whose clauses only do what an isolated
+# function may do, so that the query may be evaluated concurrently.
+function createIsolatedPipeline(
+        Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection,
+        typedesc<Type> constraintTd, typedesc<CompletionType> completionTd)
+            returns _StreamPipeline {
+    return new _StreamPipeline(collection, constraintTd, completionTd, true);
+}
+
+# Returns the number of chunks in which isolated query expressions over arrays are evaluated concurrently.
+function getQueryParallelism() returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GetQueryParallelism",
+    name: "getQueryParallelism"
+} external;
+
+# Returns the rows of the table that may satisfy a comparison of the given field with the value, using a secondary
+# index on the field. Returns the table itself if the rows cannot be looked up using an index.
+function getIndexedRows(table<map<Type>> tbl, string fieldName, string operator, any|error value)
+        returns _Iterable|table<map<Type>> {
+    handle rows = lookUpIndexedRows(tbl, fieldName, operator, value);
+    if java:isNull(rows) {
+        return tbl;
+    }
+    return new _IndexedRows(tbl, fieldName, operator, value, rows);
+}
+
+# Returns the native iterator over the rows of the table that may satisfy a comparison of the given field with the
+# value, or a null handle if the rows cannot be looked up using an index.
+function lookUpIndexedRows(table<map<Type>> tbl, string fieldName, string operator, any|error value)
+        returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GetIndexedRows",
+    name: "lookUpIndexedRows"
+} external;
+
+# Returns the next row of a native iterator over indexed rows, or nil if there are no more rows.
+function nextIndexedRow(handle rows) returns map<Type>? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GetIndexedRows",
+    name: "nextIndexedRow"
+} external;
+
+# Creates the native multimap that a join clause uses to look up the frames of the joined collection by key.
+function createFrameMultiMap(typedesc<_Frame> frameType) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "createFrameMultiMap"
+} external;
+
+# Adds a frame of the joined collection with the given key to the frame multimap.
+function putFrame(handle frameMultiMap, any key, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "putFrame"
+} external;
+
+# Returns the frames of the joined collection with a key equal to the given key. The returned array must not be
+# modified.
+function getFrames(handle frameMultiMap, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "getFrames"
+} external;
+
+# Returns a new frame with the entries of both frames, equivalent to `{...lhsFrame, ...rhsFrame}`.
+function mergeFrames(_Frame lhsFrame, _Frame rhsFrame) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.MergeFrames",
+    name: "mergeFrames"
+} external;
+
+# Adds the entries of `rhsFrame` to `lhsFrame` and returns it. Used instead of `mergeFrames` for the last frame joined
+# with `lhsFrame`, since the join clause does not read `lhsFrame` afterwards.
+function overlayFrame(_Frame lhsFrame, _Frame rhsFrame) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.MergeFrames",
+    name: "overlayFrame"
+} external;
+
+# Creates the native sorter of the frames of an order by clause, which keeps only `maxFrames` frames if it is
+# positive.
+function createFrameSorter(typedesc<_Frame> frameType, int maxFrames) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "createFrameSorter"
+} external;
+
+# Adds a frame with its order keys to the frame sorter.
+function addFrame(handle frameSorter, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "addFrame"
+} external;
+
+# Returns the frames added to the frame sorter, ordered by their order keys.
+function getSortedFrames(handle frameSorter) returns _Frame[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "getSortedFrames"
+} external;
+
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc)
         returns _StreamFunction {
     return new _InputFunction(inputFunc);
@@ -77,13 +77,16 @@ class _StreamPipeline {
     _StreamFunction streamFunction;
     typedesc<Type> constraintTd;
     typedesc<CompletionType> completionTd;
+    # Whether the query is evaluated eagerly and its clauses only do what an isolated function may do.
+    boolean isolated;
 
     function init(
             Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable|error collection,
-            typedesc<Type> constraintTd, typedesc<CompletionType> completionTd) {
+            typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean isolated = false) {
         self.streamFunction = new _InitFunction(collection);
         self.constraintTd = constraintTd;
         self.completionTd = completionTd;
+        self.isolated = isolated;
     }
 
     public isolated function next() returns _Frame|error? {
@@ -101,22 +104,106 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
-        streamFunction.prevFunc = existingFunc;
-        self.streamFunction = streamFunction;
+        if (streamFunction is _LimitFunction && existingFunc is _OrderByFunction) {
+            // Only the frames within the limit have to be kept while ordering.
+            existingFunc.limitFunction = streamFunction;
+        }
+        // Consecutive from, let, where and select clauses are applied to each frame in a single stream function.
+        if (existingFunc is _FusedFunction && existingFunc.fuse(streamFunction)) {
+            return;
+        }
+        _StreamFunction func = streamFunction;
+        _FusedFunction fusedFunc = new;
+        if (fusedFunc.fuse(streamFunction)) {
+            func = fusedFunc;
+        }
+        func.prevFunc = existingFunc;
+        self.streamFunction = func;
     }
 
     public function getStream() returns stream<Type, CompletionType> {
+        _StreamFunction sf = self.streamFunction;
+        // Isolated queries that only have from, let, where and select clauses over an array may be evaluated in
+        // chunks concurrently.
+        if (self.isolated && sf is _FusedFunction) {
+            _StreamFunction? pf = sf.prevFunc;
+            int parallelism = getQueryParallelism();
+            if (parallelism > 1 && pf is _InitFunction && pf.array !is ()) {
+                _ParallelFunction parallelFunc = new (pf, sf, parallelism);
+                self.streamFunction = parallelFunc;
+            }
+        }
+        // The stream reads the value of each frame before pulling the next one, and so do the do and limit clauses.
+        // A fused function over an array that returns its frames to them can reuse a single frame.
+        _StreamFunction lastFunc = self.streamFunction;
+        _StreamFunction? fusedFunc = lastFunc is _DoFunction|_LimitFunction ? lastFunc.prevFunc : lastFunc;
+        if (fusedFunc is _FusedFunction) {
+            _StreamFunction? pf = fusedFunc.prevFunc;
+            if (pf is _InitFunction && pf.array !is ()) {
+                fusedFunc.arrayInput = pf;
+            }
+        }
         IterHelper itrObj = new (self, self.constraintTd);
         var strm = internal:construct(self.constraintTd, self.completionTd, itrObj);
         return strm;
     }
 }
 
+# Iterates the rows of a table that may satisfy a comparison of a field with a value, which are looked up using a
+# secondary index on the field.
+class _IndexedRows {
+    *_Iterable;
+    table<map<Type>> tbl;
+    string fieldName;
+    string operator;
+    any|error value;
+    handle rows;
+    boolean iterated = false;
+
+    function init(table<map<Type>> tbl, string fieldName, string operator, any|error value, handle rows) {
+        self.tbl = tbl;
+        self.fieldName = fieldName;
+        self.operator = operator;
+        self.value = value;
+        self.rows = rows;
+    }
+
+    public function iterator() returns _IndexedRowIterator {
+        if (self.iterated) {
+            // The rows are looked up again to iterate them from the start.
+            self.rows = lookUpIndexedRows(self.tbl, self.fieldName, self.operator, self.value);
+        }
+        self.iterated = true;
+        return new _IndexedRowIterator(self.rows);
+    }
+}
+
+class _IndexedRowIterator {
+    handle rows;
+
+    function init(handle rows) {
+        self.rows = rows;
+    }
+
+    public function next() returns record {|map<Type> value;|}? {
+        map<Type>? row = nextIndexedRow(self.rows);
+        if (row is ()) {
+            return ();
+        }
+        return {value: row};
+    }
+}
+
 class _InitFunction {
     *_StreamFunction;
     _Iterator? itr;
     boolean resettable = true;
     Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable|error collection;
+    # Arrays are read by index, to not create an iterator result for each member. As with the array iterator, the
+    # members added after the iteration starts are not read.
+    Type[]? array = ();
+    int arrayIndex = 0;
+    int arrayLength = 0;
 
     function init(
             Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable|error collection) {
@@ -128,6 +215,10 @@ class _InitFunction {
         } else {
             self.collection = collection;
             self.itr = self._getIterator(collection);
+            if (collection is Type[]) {
+                self.array = collection;
+                self.arrayLength = collection.length();
+            }
         }
     }
 
@@ -136,6 +227,15 @@ class _InitFunction {
         if(collection is error) {
             return collection;
         }
+        Type[]? array = self.array;
+        if (array is Type[]) {
+            int index = self.arrayIndex;
+            if (index < self.arrayLength && index < array.length()) {
+                self.arrayIndex = index + 1;
+                return {value: array[index]};
+            }
+            return ();
+        }
         _Iterator i = <_Iterator>self.itr;
         record {|(any|error) value;|}|error? v = i.next();
         if (v is record {|(any|error) value;|}) {
@@ -148,6 +248,11 @@ class _InitFunction {
     public function reset() {
         if (self.resettable) {
             self.itr = self._getIterator(self.collection);
+            self.arrayIndex = 0;
+            Type[]? array = self.array;
+            if (array is Type[]) {
+                self.arrayLength = array.length();
+            }
         } else {
             panic error("Unable to reset", message = "cannot reset an already consumed iterator.");
         }
@@ -337,6 +442,7 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     error? failureAtJoin = ();
 
@@ -356,7 +462,7 @@ class _InnerJoinFunction {
                 self.failureAtJoin = rhsKeyFuncResult;
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -373,45 +479,46 @@ class _InnerJoinFunction {
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
         }
 
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = (check lhsKF(lhsFrame)).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
+        while true {
+            if (lhsFrame is ()) {
+                lhsFrame = pf.process();
+                self.lhsFrame = lhsFrame;
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
+            if (lhsFrame is _Frame) {
+                if (rhsCandidates is ()) {
+                    rhsCandidates = rhsFramesMap.get(check lhsKF(lhsFrame));
+                    self.rhsCandidates = rhsCandidates;
+                    self.rhsCandidateIndex = 0;
+                }
+                int rhsCandidateIndex = self.rhsCandidateIndex;
+                if (rhsCandidates is _Frame[] && rhsCandidateIndex < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = rhsCandidateIndex + 1;
+                    if (rhsCandidateIndex + 1 == rhsCandidates.length()) {
+                        return overlayFrame(lhsFrame, rhsCandidates[rhsCandidateIndex]);
+                    }
+                    return mergeFrames(lhsFrame, rhsCandidates[rhsCandidateIndex]);
                 }
-                return joinedFrame;
             } else {
-                // Move to next lhs frame
-                self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
+                return lhsFrame;
             }
+            // Move to next lhs frame
+            lhsFrame = ();
+            rhsCandidates = ();
+            self.lhsFrame = ();
+            self.rhsCandidates = ();
         }
-        return lhsFrame;
     }
 
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -425,6 +532,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -446,7 +554,7 @@ class _OuterJoinFunction {
                 self.failureAtJoin = rhsKeyFuncResult;
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -462,9 +570,7 @@ class _OuterJoinFunction {
         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
-        _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -476,34 +582,26 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = (check lhsKF(lhsFrame)).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(check lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
-                    // Move to next lhs frame in next iteration.
-                    self.rhsCandidates = ();
-                    self.lhsFrame = ();
+                int rhsCandidateIndex = self.rhsCandidateIndex;
+                if (rhsCandidateIndex + 1 < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = rhsCandidateIndex + 1;
+                    return mergeFrames(lhsFrame, rhsCandidates[rhsCandidateIndex]);
                 }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
+                // Move to next lhs frame in next iteration.
+                self.rhsCandidates = ();
+                self.lhsFrame = ();
+                return overlayFrame(lhsFrame, rhsCandidates[rhsCandidateIndex]);
             } else {
                 // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
                 self.lhsFrame = ();
-                return joinedFrame;
+                return overlayFrame(lhsFrame, self.nilFrame);
             }
         }
         return lhsFrame;
@@ -513,6 +611,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -560,49 +659,269 @@ class _FilterFunction {
     }
 }
 
+# Minimum number of members of an array in a chunk evaluated concurrently, so that small arrays are not split.
+const int MIN_PARALLEL_CHUNK_SIZE = 1024;
+
+class _FusedFunction {
+    *_StreamFunction;
+
+    # Desugared functions of consecutive from, let, where and select clauses, applied to each frame in the order of
+    # the clauses. The functions of where clauses are in `filterFuncs`, at the same index as a nil frame function.
+    (function (_Frame _frame) returns _Frame|error?)?[] frameFuncs = [];
+    (function (_Frame _frame) returns boolean|error)?[] filterFuncs = [];
+    # The array input read directly by this function, if the frames it returns are not kept by the stream functions
+    # that follow it. The clause functions update a frame in place, so the same frame is then used for every member.
+    _InitFunction? arrayInput = ();
+    _Frame reusableFrame = {};
+
+    function init() {
+        self.prevFunc = ();
+    }
+
+    # Adds the function of a from, let, where or select clause to the functions applied to each frame.
+    # + return - false if the stream function cannot be fused
+    function fuse(_StreamFunction streamFunction) returns boolean {
+        if (streamFunction is _FilterFunction) {
+            self.frameFuncs.push(());
+            self.filterFuncs.push(streamFunction.filterFunc);
+            return true;
+        }
+        if (streamFunction is _InputFunction) {
+            self.frameFuncs.push(streamFunction.inputFunc);
+        } else if (streamFunction is _LetFunction) {
+            self.frameFuncs.push(streamFunction.letFunc);
+        } else if (streamFunction is _SelectFunction) {
+            self.frameFuncs.push(streamFunction.selectFunc);
+        } else {
+            return false;
+        }
+        self.filterFuncs.push(());
+        return true;
+    }
+
+    public function process() returns _Frame|error? {
+        _InitFunction? arrayInput = self.arrayInput;
+        if (arrayInput is _InitFunction) {
+            return self.processArrayMembers(arrayInput);
+        }
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        _Frame|error? pFrame = pf.process();
+        while (pFrame is _Frame) {
+            _Frame|boolean|error? cFrame = self.processFrame(pFrame);
+            if (cFrame !is boolean) {
+                return cFrame;
+            }
+            // The frame was filtered out by a where clause.
+            pFrame = pf.process();
+        }
+        return pFrame;
+    }
+
+    # Applies the functions to the reusable frame for the next members of the array of the input, until a member is
+    # not filtered out by a where clause.
+    # + return - the resulting frame, or nil if all the members have been read
+    function processArrayMembers(_InitFunction arrayInput) returns _Frame|error? {
+        Type[] array = <Type[]>arrayInput.array;
+        _Frame frame = self.reusableFrame;
+        int index = arrayInput.arrayIndex;
+        while (index < arrayInput.arrayLength && index < array.length()) {
+            frame["value"] = array[index];
+            index += 1;
+            arrayInput.arrayIndex = index;
+            _Frame|boolean|error? cFrame = self.processFrame(frame);
+            if (cFrame !is boolean) {
+                return cFrame;
+            }
+        }
+        return ();
+    }
+
+    # Applies the functions to a frame.
+    # + return - the resulting frame, or false if a where clause filtered out the frame
+    function processFrame(_Frame frame) returns _Frame|boolean|error? {
+        (function (_Frame _frame) returns _Frame|error?)?[] frameFuncs = self.frameFuncs;
+        (function (_Frame _frame) returns boolean|error)?[] filterFuncs = self.filterFuncs;
+        _Frame currentFrame = frame;
+        int i = 0;
+        int funcCount = frameFuncs.length();
+        while (i < funcCount) {
+            (function (_Frame _frame) returns _Frame|error?)? frameFunc = frameFuncs[i];
+            if (frameFunc is ()) {
+                (function (_Frame _frame) returns boolean|error)? filterFunc = filterFuncs[i];
+                if (filterFunc !is () && !check filterFunc(currentFrame)) {
+                    return false;
+                }
+            } else {
+                _Frame|error? nextFrame = frameFunc(currentFrame);
+                if (nextFrame !is _Frame) {
+                    return nextFrame;
+                }
+                currentFrame = nextFrame;
+            }
+            i += 1;
+        }
+        return currentFrame;
+    }
+
+    # Applies the functions to a frame for each member of the array from `startIndex` up to `endIndex`, and adds
+    # the resulting frames to `frames`.
+    # + return - false if a function ended the stream, or the error returned by a function
+    function processChunk(Type[] array, int startIndex, int endIndex, _Frame[] frames) returns boolean|error {
+        int i = startIndex;
+        while (i < endIndex) {
+            _Frame|boolean|error? frame = self.processFrame({value: array[i]});
+            if (frame is _Frame) {
+                frames.push(frame);
+            } else if (frame is error) {
+                return frame;
+            } else if (frame is ()) {
+                return false;
+            }
+            i += 1;
+        }
+        return true;
+    }
+
+    public function reset() {
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
+class _ParallelFunction {
+    *_StreamFunction;
+    _InitFunction initFunc;
+    _FusedFunction fusedFunc;
+    int parallelism;
+    _Frame[]? frames = ();
+    int frameIndex = 0;
+    error? completion = ();
+
+    # Evaluates a query over an array by applying the fused functions to chunks of the array concurrently. The
+    # frames are returned in the order of the members of the array, followed by the first error if any chunk failed.
+    function init(_InitFunction initFunc, _FusedFunction fusedFunc, int parallelism) {
+        self.initFunc = initFunc;
+        self.fusedFunc = fusedFunc;
+        self.parallelism = parallelism;
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if (self.frames is ()) {
+            self.frames = self.evaluate();
+        }
+        _Frame[] frames = <_Frame[]>self.frames;
+        int index = self.frameIndex;
+        if (index < frames.length()) {
+            self.frameIndex = index + 1;
+            return frames[index];
+        }
+        return self.completion;
+    }
+
+    function evaluate() returns _Frame[] {
+        Type[] array = <Type[]>self.initFunc.array;
+        int length = self.initFunc.arrayLength;
+        int chunkSize = (length + self.parallelism - 1) / self.parallelism;
+        if (chunkSize < MIN_PARALLEL_CHUNK_SIZE) {
+            chunkSize = MIN_PARALLEL_CHUNK_SIZE;
+        }
+        _FusedFunction fusedFunc = self.fusedFunc;
+        _Frame[][] chunkFrames = [];
+        future<boolean|error>[] chunkResults = [];
+        int chunkStart = 0;
+        while (chunkStart < length) {
+            int chunkEnd = chunkStart + chunkSize < length ? chunkStart + chunkSize : length;
+            _Frame[] frames = [];
+            chunkFrames.push(frames);
+            future<boolean|error> chunkResult = @strand {thread: "any"} start fusedFunc.processChunk(array,
+                    chunkStart, chunkEnd, frames);
+            chunkResults.push(chunkResult);
+            chunkStart = chunkEnd;
+        }
+
+        _Frame[] frames = [];
+        boolean completed = false;
+        foreach int i in 0 ..< chunkResults.length() {
+            boolean|error chunkResult = wait chunkResults[i];
+            if (completed) {
+                continue;
+            }
+            foreach _Frame frame in chunkFrames[i] {
+                frames.push(frame);
+            }
+            if (chunkResult is error) {
+                self.completion = chunkResult;
+                completed = true;
+            } else if (!chunkResult) {
+                completed = true;
+            }
+        }
+        return frames;
+    }
+
+    public function reset() {
+        self.frames = ();
+        self.frameIndex = 0;
+        self.completion = ();
+        self.initFunc.reset();
+    }
+}
+
 class _OrderByFunction {
     *_StreamFunction;
 
     # Desugared function to do;
     # order by person.fname true, person.age false
     function (_Frame _frame) returns error? orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    # The limit clause that directly follows the order by clause, if any.
+    _LimitFunction? limitFunction = ();
+    _Frame[]? orderedFrames;
+    int orderedFrameIndex = 0;
 
     function init(function (_Frame _frame) returns error? orderKeyFunc) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
+        self.orderedFrames = ();
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
+        if (self.orderedFrames is ()) {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
+            _LimitFunction? limitFunction = self.limitFunction;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            int maxFrames = 0;
+            if (limitFunction !is () && f is _Frame) {
+                maxFrames = check limitFunction.evaluateLimit(f);
+            }
+            handle frameSorter = createFrameSorter(_Frame, maxFrames);
             // consume all events for ordering.
             while (f is _Frame) {
                 check orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                addFrame(frameSorter, f);
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            self.orderedFrames = getSortedFrames(frameSorter);
+            self.orderedFrameIndex = 0;
         }
 
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        _Frame[] orderedFrames = <_Frame[]>self.orderedFrames;
+        int index = self.orderedFrameIndex;
+        if (index < orderedFrames.length()) {
+            self.orderedFrameIndex = index + 1;
+            return orderedFrames[index];
         }
-        return f;
+        return ();
     }
 
     public function reset() {
-        self.orderedStream = ();
+        self.orderedFrames = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -690,6 +1009,9 @@ class _LimitFunction {
     # Desugared function to limit the number of results
     function (_Frame _frame) returns int|error limitFunc;
     public int count = 0;
+    # The limit evaluated by the order by clause that directly precedes the limit clause, if any. It applies to all
+    # the frames, so that the limit is evaluated only once.
+    int? evaluatedLimit = ();
 
     function init(function (_Frame _frame) returns int limitFunc) {
         self.limitFunc = limitFunc;
@@ -701,7 +1023,8 @@ class _LimitFunction {
         function (_Frame _frame) returns int|error limitFunc = self.limitFunc;
         _Frame|error? pFrame = pf.process();
         if (pFrame is _Frame) {
-            int lmt = check limitFunc(pFrame);
+            int? evaluatedLimit = self.evaluatedLimit;
+            int lmt = evaluatedLimit is int ? evaluatedLimit : check limitFunc(pFrame);
             if (lmt < 1) {
                 panic error("Invalid limit", message = "limit cannot be < 1.");
             }
@@ -714,8 +1037,17 @@ class _LimitFunction {
         return pFrame;
     }
 
+    # Evaluates the limit for the frames of this iteration.
+    function evaluateLimit(_Frame frame) returns int|error {
+        function (_Frame _frame) returns int|error limitFunc = self.limitFunc;
+        int lmt = check limitFunc(frame);
+        self.evaluatedLimit = lmt;
+        return lmt;
+    }
+
     public function reset() {
         self.count = 0;
+        self.evaluatedLimit = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -726,33 +1058,19 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle m;
 
     function init() {
-        self.m = {};
+        self.m = createFrameMultiMap(_Frame);
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
+    function put(any k, _Frame v) {
+        putFrame(self.m, k, v);
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    # Returns the frames with a key equal to `k`. The returned array must not be modified.
+    function get(any k) returns _Frame[]? {
+        return getFrames(self.m, k);
     }
 
 }
@@ -777,107 +1095,3 @@ class IterHelper {
         }
     }
 }
-
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if (!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return - ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return - ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Native implementation of the multimap used by join clauses of query expressions to look up the frames of the
+ * joined collection by the value of their key.
+ * <p>
+ * The keys are compared using `==`, with a hash code that is consistent with it, so that the keys do not have to be
+ * converted to strings. The frames with the same key are kept in an array that is returned as it is by lookups.
+ *
+ * @since 2201.2.0
+ */
+public class FrameMultiMap {
+
+    // Nested values deeper than this do not contribute to the hash code, which also guards against cyclic values.
+    private static final int MAX_HASH_DEPTH = 8;
+
+    private final ArrayType framesType;
+    private final Map<Key, BArray> frames = new HashMap<>();
+
+    private FrameMultiMap(ArrayType framesType) {
+        this.framesType = framesType;
+    }
+
+    public static FrameMultiMap createFrameMultiMap(BTypedesc frameType) {
+        return new FrameMultiMap(TypeCreator.createArrayType(frameType.getDescribingType()));
+    }
+
+    public static void putFrame(FrameMultiMap multiMap, Object key, BMap<BString, Object> frame) {
+        multiMap.frames.computeIfAbsent(new Key(key), k -> ValueCreator.createArrayValue(multiMap.framesType))
+                .append(frame);
+    }
+
+    /**
+     * Returns the frames with the given key, which must not be modified.
+     *
+     * @param multiMap frame multimap
+     * @param key      key of the frames
+     * @return the frames, or null if there are no frames with the key
+     */
+    public static Object getFrames(FrameMultiMap multiMap, Object key) {
+        return multiMap.frames.get(new Key(key));
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // Ints and bytes may be equal to each other.
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            // -0.0 is equal to 0.0.
+            return doubleValue == 0 ? 0 : Double.hashCode(doubleValue);
+        }
+        if (value instanceof DecimalValue) {
+            DecimalValue decimalValue = (DecimalValue) value;
+            // Decimals with different precisions may be equal to each other.
+            return decimalValue.getValueKind() == DecimalValueKind.OTHER ?
+                    decimalValue.decimalValue().stripTrailingZeros().hashCode() : 0;
+        }
+        if (value instanceof BString || value instanceof Boolean) {
+            return value.hashCode();
+        }
+        if (depth == MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof BMap) {
+            // The order of the fields does not matter for equality.
+            int result = 0;
+            for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                result += entry.getKey().hashCode() ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            int result = 1;
+            for (int i = 0; i < array.size(); i++) {
+                result = 31 * result + hash(array.get(i), depth + 1);
+            }
+            return result;
+        }
+        // Other values fall back to the equality check.
+        return 0;
+    }
+
+    /**
+     * Key of a frame, compared using `==`.
+     */
+    private static class Key {
+
+        private final Object value;
+        private final int hash;
+
+        private Key(Object value) {
+            this.value = value;
+            this.hash = hash(value, 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && TypeChecker.isEqual(value, ((Key) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
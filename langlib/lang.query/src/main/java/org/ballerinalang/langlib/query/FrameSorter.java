@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Native implementation of the sorting done by order by clauses of query expressions.
+ * <p>
+ * The frames are compared using the order keys and directions that the desugared order by function adds to them, and
+ * frames with equal keys keep the order in which they were added. When the order by clause is followed by a limit
+ * clause, only the frames within the limit are kept, in a bounded heap, instead of all the frames of the query.
+ *
+ * @since 2201.2.0
+ */
+public class FrameSorter {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private final ArrayType framesType;
+    private final long maxFrames;
+    private boolean[] ascending;
+    private long addedFrames = 0;
+    private final Comparator<SortEntry> comparator = this::compare;
+    private final List<SortEntry> entries = new ArrayList<>();
+    // Holds the frames within the limit, with the frame that is ordered last at the head.
+    private final PriorityQueue<SortEntry> heap = new PriorityQueue<>(comparator.reversed());
+
+    private FrameSorter(ArrayType framesType, long maxFrames) {
+        this.framesType = framesType;
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * Creates a sorter for the frames of an order by clause.
+     *
+     * @param frameType type of the frames
+     * @param maxFrames number of frames to keep, or a value less than 1 to keep all the frames
+     * @return the frame sorter
+     */
+    public static FrameSorter createFrameSorter(BTypedesc frameType, long maxFrames) {
+        return new FrameSorter(TypeCreator.createArrayType(frameType.getDescribingType()), maxFrames);
+    }
+
+    public static void addFrame(FrameSorter sorter, BMap<BString, Object> frame) {
+        sorter.add(frame);
+    }
+
+    public static BArray getSortedFrames(FrameSorter sorter) {
+        return sorter.getSorted();
+    }
+
+    private void add(BMap<BString, Object> frame) {
+        if (ascending == null) {
+            // The directions are the same for all the frames.
+            BArray directions = (BArray) frame.get(ORDER_DIRECTION);
+            ascending = new boolean[directions.size()];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = directions.getBoolean(i);
+            }
+        }
+        BArray keyArray = (BArray) frame.get(ORDER_KEY);
+        Object[] keys = new Object[ascending.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyArray.get(i);
+        }
+        SortEntry entry = new SortEntry(keys, frame, addedFrames++);
+        if (maxFrames < 1) {
+            entries.add(entry);
+        } else if (heap.size() < maxFrames) {
+            heap.add(entry);
+        } else if (compare(entry, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    private BArray getSorted() {
+        List<SortEntry> sortedEntries = maxFrames < 1 ? entries : new ArrayList<>(heap);
+        sortedEntries.sort(comparator);
+        Object[] frames = new Object[sortedEntries.size()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = sortedEntries.get(i).frame;
+        }
+        entries.clear();
+        heap.clear();
+        return ValueCreator.createArrayValue(frames, framesType);
+    }
+
+    private int compare(SortEntry lhs, SortEntry rhs) {
+        for (int i = 0; i < ascending.length; i++) {
+            // () is ordered last in both directions.
+            int result = ascending[i] ?
+                    ValueComparisonUtils.compareValues(lhs.keys[i], rhs.keys[i], ASCENDING) :
+                    ValueComparisonUtils.compareValues(rhs.keys[i], lhs.keys[i], DESCENDING);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(lhs.index, rhs.index);
+    }
+
+    /**
+     * A frame with its order keys and the position in which it was added.
+     */
+    private static class SortEntry {
+
+        private final Object[] keys;
+        private final BMap<BString, Object> frame;
+        private final long index;
+
+        private SortEntry(Object[] keys, BMap<BString, Object> frame, long index) {
+            this.keys = keys;
+            this.frame = frame;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.util.Iterator;
+
+/**
+ * Implementation of lang.query:lookUpIndexedRows(table, string, string, any|error).
+ * <p>
+ * Narrows down the rows of a table that are iterated by a query expression whose first clause after the from clause
+ * is a where clause comparing a field of the row with a value. The candidate rows are looked up using a secondary
+ * index on the field, and the where clause is still applied to them.
+ *
+ * @since 2201.2.0
+ */
+public class GetIndexedRows {
+
+    /**
+     * Returns an iterator over the candidate rows, or null if the rows cannot be looked up using an index.
+     *
+     * @param tbl       table to look up the rows of
+     * @param fieldName field compared by the where clause
+     * @param operator  comparison operator, with the field on its left hand side
+     * @param value     value the field is compared with
+     * @return iterator over the candidate rows, or null
+     */
+    public static Iterator<?> lookUpIndexedRows(BTable tbl, BString fieldName, BString operator, Object value) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return null;
+        }
+        TableValueImpl<?, ?> table = (TableValueImpl<?, ?>) tbl;
+        switch (operator.getValue()) {
+            case "==":
+                return table.getRowsWithFieldValue(fieldName, value);
+            case "<":
+                return table.getRowsInFieldRange(fieldName, null, false, value, false);
+            case "<=":
+                return table.getRowsInFieldRange(fieldName, null, false, value, true);
+            case ">":
+                return table.getRowsInFieldRange(fieldName, value, false, null, false);
+            case ">=":
+                return table.getRowsInFieldRange(fieldName, value, true, null, false);
+            default:
+                return null;
+        }
+    }
+
+    public static Object nextIndexedRow(Iterator<BMap<?, ?>> rows) {
+        return rows.hasNext() ? rows.next() : null;
+    }
+}
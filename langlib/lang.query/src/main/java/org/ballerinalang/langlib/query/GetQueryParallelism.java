@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+
+import static java.lang.System.err;
+
+/**
+ * Implementation of lang.query:getQueryParallelism().
+ * <p>
+ * Isolated query expressions over arrays are evaluated concurrently, in as many chunks as the value of the
+ * BALLERINA_QUERY_PARALLELISM system variable, when it is greater than 1. The ballerina.query.parallelism system
+ * property overrides the system variable, and is read each time a query is evaluated. The queries are evaluated
+ * sequentially by default.
+ *
+ * @since 2201.2.0
+ */
+public class GetQueryParallelism {
+
+    private static final long ENV_PARALLELISM =
+            readParallelism(System.getenv(RuntimeConstants.BALLERINA_QUERY_PARALLELISM_ENV_VAR),
+                            RuntimeConstants.BALLERINA_QUERY_PARALLELISM_ENV_VAR);
+
+    public static long getQueryParallelism() {
+        String parallelismConf = System.getProperty(RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY);
+        if (parallelismConf == null) {
+            return ENV_PARALLELISM;
+        }
+        return readParallelism(parallelismConf, RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY);
+    }
+
+    private static long readParallelism(String parallelismConf, String confName) {
+        if (parallelismConf == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Long.parseLong(parallelismConf.trim()));
+        } catch (NumberFormatException e) {
+            // Log and continue with sequential evaluation
+            err.println("ballerina: error occurred while reading system variable:" + confName + ", " +
+                    e.getMessage());
+            return 1;
+        }
+    }
+}
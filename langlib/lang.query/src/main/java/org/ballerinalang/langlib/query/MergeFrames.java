@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.util.Map;
+
+/**
+ * Implementation of lang.query:mergeFrames(_Frame, _Frame) and lang.query:overlayFrame(_Frame, _Frame).
+ * <p>
+ * Creates the frame of a join clause, with the entries of the frame of the joined collection added to those of the
+ * outer frame. Equivalent to {...lhsFrame, ...rhsFrame}, without iterating the frames through Ballerina entries.
+ * The outer frame is only copied if it is joined with another frame afterwards.
+ *
+ * @since 2201.2.0
+ */
+public class MergeFrames {
+
+    public static BMap<BString, Object> mergeFrames(BMap<BString, Object> lhsFrame, BMap<BString, Object> rhsFrame) {
+        MapValueImpl<BString, Object> joinedFrame = new MapValueImpl<>(lhsFrame.getType());
+        for (Map.Entry<BString, Object> entry : lhsFrame.entrySet()) {
+            joinedFrame.put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<BString, Object> entry : rhsFrame.entrySet()) {
+            joinedFrame.put(entry.getKey(), entry.getValue());
+        }
+        return joinedFrame;
+    }
+
+    public static BMap<BString, Object> overlayFrame(BMap<BString, Object> lhsFrame, BMap<BString, Object> rhsFrame) {
+        for (Map.Entry<BString, Object> entry : rhsFrame.entrySet()) {
+            lhsFrame.put(entry.getKey(), entry.getValue());
+        }
+        return lhsFrame;
+    }
+}
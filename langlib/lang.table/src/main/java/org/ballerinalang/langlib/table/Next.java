@@ -20,18 +20,18 @@ package org.ballerinalang.langlib.table;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.TableValueImpl;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.ITERATOR_MUTABILITY_ERROR;
@@ -45,62 +45,97 @@ public class Next {
 
     private static final BString MUTATED_TABLE_ERROR_DETAIL =  StringUtils.fromString("Table was mutated after the " +
                                                                                                "iterator was created");
-    //TODO: refactor hard coded values
+    private static final BString TABLE_FIELD = StringUtils.fromString("t");
+    private static final BString KEYS_FIELD = StringUtils.fromString("keys");
+    private static final BString SIZE_FIELD = StringUtils.fromString("size");
+    private static final BString VALUE_FIELD = StringUtils.fromString("value");
+
     public static Object next(BObject t) {
         BIterator tableIterator = (BIterator) t.getNativeData("&iterator&");
-        BTable table = (BTable) t.get(StringUtils.fromString("t"));
-        BArray keys = (BArray) t.get(StringUtils.fromString("keys"));
-        long initialSize = (long) t.get(StringUtils.fromString("size"));
+        BTable table = (BTable) t.get(TABLE_FIELD);
+        BArray keys = (BArray) t.get(KEYS_FIELD);
+        long initialSize = (long) t.get(SIZE_FIELD);
         if (tableIterator == null) {
             tableIterator = table.getIterator();
             t.addNativeData("&iterator&", tableIterator);
-            t.addNativeData("&returnedKeys&", new ArrayList<>());
+            t.addNativeData("&state&", new IterationState());
         }
 
         // If the new values were added after the iterator is created, panic.
         // keys are the initial set of keys when the iterator was created.
-        List<Object> returnedKeys = (ArrayList<Object>) t.getNativeData("&returnedKeys&");
-        handleMutation(table, keys, returnedKeys, initialSize);
+        IterationState state = (IterationState) t.getNativeData("&state&");
+        if (!state.isUnmodified(table)) {
+            handleMutation(table, keys, state, initialSize);
+        }
+        if (state.keyOffset < keys.size()) {
+            // Consume the key that is expected to be returned next.
+            state.keyOffset++;
+        }
         if (tableIterator.hasNext()) {
             BArray keyValueTuple = (BArray) tableIterator.next();
-            returnedKeys.add(keyValueTuple.get(0));
-            return ValueCreator.createRecordValue(ValueCreator.createRecordValue(
-                    (RecordType) table.getIteratorNextReturnType()), keyValueTuple.get(1));
+            state.returnedKeys.add(keyValueTuple.get(0));
+            BMap<BString, Object> result =
+                    ValueCreator.createRecordValue((RecordType) table.getIteratorNextReturnType());
+            result.put(VALUE_FIELD, keyValueTuple.get(1));
+            return result;
         }
 
         return null;
     }
 
-    private static void handleMutation(BTable table, BArray keys,
-                                       List<Object> returnedKeys, long initialSize) {
+    private static void handleMutation(BTable table, BArray keys, IterationState state, long initialSize) {
         if (initialSize < table.size() ||
                 // Key-less situation, mutation can occur only by calling add() or removeAll()
                 (initialSize > 0 && table.size() == 0)) {
             throw ErrorCreator.createError(ITERATOR_MUTABILITY_ERROR, MUTATED_TABLE_ERROR_DETAIL);
         }
 
-        if (keys.isEmpty()) {
-            return;
-        }
+        if (state.keyOffset < keys.size()) {
+            // The remaining keys of the table, skipping the ones already returned, should match the initial keys
+            // that are yet to be returned.
+            Object[] currentKeys = table.getKeys();
+            int index = 0;
+            for (Object returnedValue : state.returnedKeys) {
+                if (index < currentKeys.length && TypeChecker.isEqual(currentKeys[index], returnedValue)) {
+                    index++;
+                }
+            }
 
-        List<Object> currentKeys = new ArrayList<>(Arrays.asList(table.getKeys()));
-        for (Object returnedValue : returnedKeys) {
-            if (TypeChecker.isEqual(currentKeys.get(0), returnedValue)) {
-                currentKeys.remove(0);
+            int remaining = keys.size() - state.keyOffset;
+            if (currentKeys.length - index != remaining) {
+                throw ErrorCreator.createError(ITERATOR_MUTABILITY_ERROR, MUTATED_TABLE_ERROR_DETAIL);
+            }
+            for (int i = 0; i < remaining; i++) {
+                if (!TypeChecker.isEqual(currentKeys[index + i], keys.get(state.keyOffset + i))) {
+                    throw ErrorCreator.createError(ITERATOR_MUTABILITY_ERROR, MUTATED_TABLE_ERROR_DETAIL);
+                }
             }
         }
+        state.recordModificationCount(table);
+    }
 
-        BArray currentKeyArray = (BArray) ValueCreator.createArrayValue((ArrayType) keys.getType(),
-                                                                        currentKeys.size());
-        for (int i = 0; i < currentKeys.size(); i++) {
-            Object key = currentKeys.get(i);
-            currentKeyArray.add(i, key);
-        }
+    /**
+     * Iteration progress of a table iterator, used to detect a mutation of the table.
+     */
+    private static class IterationState {
 
-        if (!TypeChecker.isEqual(currentKeyArray, keys)) {
-            throw ErrorCreator.createError(ITERATOR_MUTABILITY_ERROR, MUTATED_TABLE_ERROR_DETAIL);
+        private final List<Object> returnedKeys = new ArrayList<>();
+        // Number of the initial keys that have been consumed
+        private int keyOffset = 0;
+        // Modification count of the table when it was last checked, or -1 if it has not been checked yet
+        private int modificationCount = -1;
+
+        // A table that has neither gained nor lost a row since it was last checked is known to be consistent with
+        // the initial keys, so the keys need not be compared again.
+        private boolean isUnmodified(BTable table) {
+            return table instanceof TableValueImpl &&
+                    ((TableValueImpl<?, ?>) table).getModificationCount() == modificationCount;
         }
 
-        keys.shift();
+        private void recordModificationCount(BTable table) {
+            if (table instanceof TableValueImpl) {
+                modificationCount = ((TableValueImpl<?, ?>) table).getModificationCount();
+            }
+        }
     }
 }
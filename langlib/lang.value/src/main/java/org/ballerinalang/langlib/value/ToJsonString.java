@@ -18,9 +18,13 @@
 
 package org.ballerinalang.langlib.value;
 
+import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Return the string that represents `v` in JSON format.
  *
@@ -29,7 +33,8 @@ import io.ballerina.runtime.api.values.BString;
 public class ToJsonString {
 
     public static BString toJsonString(Object value) {
-        Object jsonValue = ToJson.toJson(value);
-        return StringUtils.fromString(StringUtils.getJsonString(jsonValue));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serializeAnydata(value, out);
+        return StringUtils.fromString(new String(out.toByteArray(), StandardCharsets.UTF_8));
     }
 }
@@ -545,6 +545,25 @@ public class LangLibTableTest {
         BRunUtil.invoke(compileResult, "testReduceForKeylessReadOnlyTables");
     }
 
+    @Test(dataProvider = "functionsToTestMutationWhileIterating")
+    public void testMutationWhileIterating(String function) {
+        BRunUtil.invoke(compileResult, function);
+    }
+
+    @DataProvider
+    public Object[] functionsToTestMutationWhileIterating() {
+        return new String[] {
+                "testRemoveReturnedRecordsWhileIterating",
+                "testRemoveNotReturnedRecordWhileIterating",
+                "testRemoveAndPutBackRecordWhileIterating",
+                "testAddRecordWhileIterating",
+                "testRemoveAllWhileIterating",
+                "testIterateAfterRemoveAll",
+                "testIterateKeylessTableWithDuplicates",
+                "testAddToKeylessTableWhileIterating"
+        };
+    }
+
     @Test(dataProvider = "functionsToTestEmptyKeyedKeylessTbl")
     public void testEmptyKeyedKeylessTbl(String function) {
         BRunUtil.invoke(compileResult, function);
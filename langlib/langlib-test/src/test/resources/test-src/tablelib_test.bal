@@ -1151,6 +1151,152 @@ function testLengthWithEmptyKeyedKeyLessTbl() {
 
 const ASSERTION_ERROR_REASON = "AssertionError";
 
+function testRemoveReturnedRecordsWhileIterating() {
+    table<Person> key(name) tab = table [
+      { name: "Chiran", age: 33 },
+      { name: "Mohan", age: 37 },
+      { name: "Gima", age: 38 },
+      { name: "Granier", age: 34 }
+    ];
+
+    var itr = tab.iterator();
+    var value = itr.next();
+    assertEquals("Chiran", value?.value?.name);
+    _ = tab.remove("Chiran");
+    value = itr.next();
+    assertEquals("Mohan", value?.value?.name);
+    _ = tab.remove("Mohan");
+    value = itr.next();
+    assertEquals("Gima", value?.value?.name);
+    value = itr.next();
+    assertEquals("Granier", value?.value?.name);
+    assertTrue(itr.next() is ());
+    assertEquals(2, tab.length());
+}
+
+function testRemoveNotReturnedRecordWhileIterating() {
+    table<Person> key(name) tab = table [
+      { name: "Chiran", age: 33 },
+      { name: "Mohan", age: 37 },
+      { name: "Gima", age: 38 }
+    ];
+
+    var itr = tab.iterator();
+    var value = itr.next();
+    _ = tab.remove("Chiran");
+    value = itr.next();
+    _ = tab.remove("Gima");
+
+    var result = trap itr.next();
+    assertIteratorMutabilityError(result);
+}
+
+function testRemoveAndPutBackRecordWhileIterating() {
+    table<Person> key(name) tab = table [
+      { name: "Chiran", age: 33 },
+      { name: "Mohan", age: 37 },
+      { name: "Gima", age: 38 }
+    ];
+
+    var itr = tab.iterator();
+    var value = itr.next();
+    // The size of the table is unchanged, but the row is now after the rows that are yet to be returned.
+    Person mohan = tab.remove("Mohan");
+    tab.put(mohan);
+
+    var result = trap itr.next();
+    assertIteratorMutabilityError(result);
+}
+
+function testAddRecordWhileIterating() {
+    table<Person> key(name) tab = table [
+      { name: "Chiran", age: 33 },
+      { name: "Mohan", age: 37 }
+    ];
+
+    var itr = tab.iterator();
+    var value = itr.next();
+    value = itr.next();
+    tab.add({ name: "Gima", age: 38 });
+
+    var result = trap itr.next();
+    assertIteratorMutabilityError(result);
+}
+
+function testRemoveAllWhileIterating() {
+    table<Person> key(name) tab = table [
+      { name: "Chiran", age: 33 },
+      { name: "Mohan", age: 37 }
+    ];
+
+    var itr = tab.iterator();
+    var value = itr.next();
+    tab.removeAll();
+
+    var result = trap itr.next();
+    assertIteratorMutabilityError(result);
+}
+
+function testIterateAfterRemoveAll() {
+    table<Person> key(name) tab = table [
+      { name: "Chiran", age: 33 },
+      { name: "Mohan", age: 37 }
+    ];
+
+    var itr = tab.iterator();
+    var value = itr.next();
+    tab.removeAll();
+
+    string[] names = [];
+    foreach Person p in tab {
+        names.push(p.name);
+    }
+    assertEquals(0, names.length());
+
+    tab.add({ name: "Gima", age: 38 });
+    tab.add({ name: "Granier", age: 34 });
+    foreach Person p in tab {
+        names.push(p.name);
+    }
+    assertEquals(<string[]> ["Gima", "Granier"], names);
+}
+
+function testIterateKeylessTableWithDuplicates() {
+    CustomerKeyLessTable custTbl = table [
+      { id: 1, firstName: "Sanjiva", lastName: "Weerawarana" },
+      { id: 1, firstName: "Sanjiva", lastName: "Weerawarana" },
+      { id: 2, firstName: "James", lastName: "Clark" }
+    ];
+
+    int[] ids = [];
+    foreach Customer customer in custTbl {
+        ids.push(customer.id);
+    }
+    assertEquals(<int[]> [1, 1, 2], ids);
+}
+
+function testAddToKeylessTableWhileIterating() {
+    CustomerKeyLessTable custTbl = table [
+      { id: 1, firstName: "Sanjiva", lastName: "Weerawarana" },
+      { id: 2, firstName: "James", lastName: "Clark" }
+    ];
+
+    var itr = custTbl.iterator();
+    var value = itr.next();
+    custTbl.add({ id: 3, firstName: "Jane", lastName: "Eyre" });
+
+    var result = trap itr.next();
+    assertIteratorMutabilityError(result);
+}
+
+function assertIteratorMutabilityError(any|error result) {
+    assertTrue(result is error);
+    if result is error {
+        assertEquals("{ballerina}IteratorMutabilityError", result.message());
+        assertEquals("Table was mutated after the iterator was created", <string> checkpanic result.detail()["message"]);
+    }
+}
+
 function assertTrue(boolean actual) {
     assertEquals(true, actual);
 }
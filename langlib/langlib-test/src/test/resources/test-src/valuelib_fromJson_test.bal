@@ -416,6 +416,67 @@ function testFromJsonStringWithTypeWithInferredArgument() {
     assertEquality(a is error, true);
 }
 
+type OrderLine record {|
+    string item;
+    int quantity;
+    decimal price;
+|};
+
+type Order record {
+    int id;
+    string customer;
+    string? note;
+    float discount = 0.5;
+    boolean paid?;
+    OrderLine[] lines;
+    map<int> tags;
+    json extra;
+};
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string s = "{\"id\": 7, \"customer\": \"J\\u00f6rg \\\"JD\\\" Doe\", \"note\": null, " +
+        "\"lines\": [{\"item\": \"pen\", \"quantity\": 2, \"price\": 1.25}, " +
+        "{\"item\": \"ink\", \"quantity\": 1, \"price\": 3}], \"tags\": {\"a\": 1, \"b\": 2}, " +
+        "\"extra\": {\"x\": [1, \"y\", null]}, \"rating\": 4.5, \"labels\": [\"new\"]}";
+    Order o = checkpanic s.fromJsonStringWithType();
+    assertEquality(o.id, 7);
+    assertEquality(o.customer, "J\u{f6}rg \"JD\" Doe");
+    assertEquality(o.note, ());
+    assertEquality(o.discount, 0.5);
+    assertEquality(o?.paid, ());
+    assertEquality(o.lines.length(), 2);
+    assertEquality(o.lines[0], {item: "pen", quantity: 2, price: 1.25d});
+    assertEquality(o.lines[1].price, 3d);
+    assertEquality(o.tags, {a: 1, b: 2});
+    assertEquality(o.extra, <json> {x: [1, "y", null]});
+    assertEquality(o["rating"], 4.5d);
+    assertEquality(o["labels"] is anydata[], true);
+
+    float[]|error floats = "[1, 2.5, -0.0]".fromJsonStringWithType();
+    assertEquality(floats, [1.0, 2.5, -0.0]);
+
+    map<Order?> orders = checkpanic ("{\"a\": null, \"b\": {\"id\": 8, \"customer\": \"C\", \"note\": \"n\", " +
+        "\"discount\": 1, \"paid\": true, \"lines\": [], \"tags\": {}, \"extra\": 1}}").fromJsonStringWithType();
+    assertEquality(orders["a"], ());
+    Order b = <Order> orders["b"];
+    assertEquality(b.discount, 1.0);
+    assertEquality(b?.paid, true);
+    assertEquality(b.extra, 1);
+}
+
+function testFromJsonStringWithTypeNestedRecordNegative() {
+    Order|error o = "{\"id\": 7, \"customer\": \"C\", \"lines\": [{\"item\": \"pen\", \"quantity\": \"2\", " +
+        "\"price\": 1}], \"tags\": {}, \"extra\": null}".fromJsonStringWithType();
+    assertEquality(o is error, true);
+    error err = <error> o;
+    string message = <string> checkpanic err.detail()["message"];
+    assertEquality(message.startsWith("'map<json>' value cannot be converted to 'Order'"), true);
+    assertEquality(message.includes("missing required field 'note' of type 'string?' in record 'Order'"), true);
+
+    Order|error malformed = "{\"id\": 7,}".fromJsonStringWithType();
+    assertEquality(malformed is error, true);
+}
+
 type OpenRecordWithUnionTarget record {|
     string|decimal...;
 |};
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE_GROUP;
+
+/**
+ * Tests for the metrics collected by {@link BallerinaMetricsObserver}.
+ */
+public class BallerinaMetricsObserverTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeClass
+    public void init() {
+        // The observer uses the default registry, which has to be set before the observer is loaded.
+        if (DefaultMetricRegistry.getInstance().getMetricProvider() instanceof NoOpMetricProvider) {
+            DefaultMetricRegistry.setInstance(new MetricRegistry(new DefaultMetricProvider()));
+        }
+        metricRegistry = DefaultMetricRegistry.getInstance();
+    }
+
+    @Test
+    public void testObservationsWithSameTags() {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        observe(observer, "sameTags", 200);
+        observe(observer, "sameTags", 200);
+
+        Counter requestsTotal = lookUpRequestsTotal("sameTags", 200);
+        Assert.assertNotNull(requestsTotal);
+        Assert.assertEquals(requestsTotal.getValue(), 2L);
+    }
+
+    @Test
+    public void testObservationsWithDifferentTags() {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        observe(observer, "firstTags", 200);
+        observe(observer, "secondTags", 200);
+        observe(observer, "firstTags", 404);
+        observe(observer, "firstTags", 200);
+
+        // The tags of an observation are not kept after it, so the metrics of earlier tags are found again.
+        Assert.assertEquals(lookUpRequestsTotal("firstTags", 200).getValue(), 2L);
+        Assert.assertEquals(lookUpRequestsTotal("secondTags", 200).getValue(), 1L);
+        Assert.assertEquals(lookUpRequestsTotal("firstTags", 404).getValue(), 1L);
+    }
+
+    @Test
+    public void testObservationsFromMultipleThreads() throws InterruptedException {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            String resource = "thread" + (i % 2);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    observe(observer, resource, 200);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(lookUpRequestsTotal("thread0", 200).getValue(), 200L);
+        Assert.assertEquals(lookUpRequestsTotal("thread1", 200).getValue(), 200L);
+    }
+
+    @Test
+    public void testMetricsRegisteredAgainAfterRemoval() {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        observe(observer, "removedMetrics", 500);
+        Assert.assertEquals(lookUpRequestsTotal("removedMetrics", 500).getValue(), 1L);
+
+        metricRegistry.remove("requests_total");
+        Assert.assertNull(lookUpRequestsTotal("removedMetrics", 500));
+
+        // The metrics resolved before the removal are stale, so the next observation registers them again.
+        observe(observer, "removedMetrics", 500);
+        Counter requestsTotal = lookUpRequestsTotal("removedMetrics", 500);
+        Assert.assertNotNull(requestsTotal);
+        Assert.assertEquals(requestsTotal.getValue(), 1L);
+    }
+
+    private static void observe(BallerinaMetricsObserver observer, String resource, int statusCode) {
+        ObserverContext observerContext = new ObserverContext() {
+            @Override
+            public boolean isStarted() {
+                return true;
+            }
+        };
+        observerContext.addTag("resource", resource);
+        observer.startServerObservation(observerContext);
+        observerContext.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, statusCode);
+        observer.stopServerObservation(observerContext);
+    }
+
+    private Counter lookUpRequestsTotal(String resource, int statusCode) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(Tag.of("resource", resource));
+        tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCode / 100 + STATUS_CODE_GROUP_SUFFIX));
+        return (Counter) metricRegistry.lookup(new MetricId("requests_total", "Total number of requests", tags));
+    }
+}
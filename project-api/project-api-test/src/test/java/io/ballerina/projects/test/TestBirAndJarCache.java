@@ -17,9 +17,11 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.Document;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
@@ -57,6 +59,54 @@ public class TestBirAndJarCache {
 
     @Test(description = "tests writing of the BIR and Jar files")
     public void testBirAndJarCaching() throws IOException {
+        assertBirAndJarCaching(BuildOptions.builder().setSkipTests(false).build());
+    }
+
+    @Test(description = "tests writing of the BIR and Jar files when writing the jars of the modules in parallel")
+    public void testBirAndJarCachingWithParallelJarWriting() throws IOException {
+        assertBirAndJarCaching(BuildOptions.builder().setSkipTests(false).setParallelJarWriting(true).build());
+    }
+
+    @Test(description = "tests reusing the modules that have not changed since the previous build")
+    public void testJarReuse() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        BuildOptions buildOptions = BuildOptions.builder().setSkipTests(true).setIncrementalBuild(true).build();
+
+        // 1) The first build compiles all the modules
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        JBallerinaBackend jBallerinaBackend =
+                JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        int numOfModules = project.currentPackage().moduleIds().size();
+        Assert.assertEquals(jBallerinaBackend.generatedModuleCount(), numOfModules);
+        Assert.assertEquals(jBallerinaBackend.reusedModuleCount(), 0);
+
+        // 2) Building the same sources again reuses all the modules, without compiling them
+        testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(jBallerinaBackend.generatedModuleCount(), 0);
+        Assert.assertEquals(jBallerinaBackend.reusedModuleCount(), numOfModules);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().jarCachedCount, 0);
+
+        // 3) Changing the default module compiles it only
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        Document document = defaultModule.document(defaultModule.documentIds().iterator().next());
+        String content = document.textDocument().toString() + System.lineSeparator() + "function newFunction() {}";
+        Package modifiedPackage = document.modify().withContent(content).apply().module().packageInstance();
+        jBallerinaBackend = JBallerinaBackend.from(modifiedPackage.getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(jBallerinaBackend.generatedModuleCount(), 1);
+        Assert.assertEquals(jBallerinaBackend.reusedModuleCount(), numOfModules - 1);
+    }
+
+    private void assertBirAndJarCaching(BuildOptions buildOptions) throws IOException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
 
         // 1) Initialize the project instance
@@ -69,7 +119,7 @@ public class TestBirAndJarCache {
             testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
             ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
             environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
-            project = TestUtils.loadBuildProject(environmentBuilder, projectPath);
+            project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
         } catch (Exception e) {
             Assert.fail(e.getMessage());
         }
@@ -142,10 +192,11 @@ public class TestBirAndJarCache {
             birCachedCount++;
         }
 
+        // The jars are cached from multiple threads when parallel jar writing is on
         @Override
-        public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
-                                                 String libraryName,
-                                                 ByteArrayOutputStream libraryContent) {
+        public synchronized void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                              String libraryName,
+                                                              ByteArrayOutputStream libraryContent) {
             super.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
             jarCachedCount++;
         }
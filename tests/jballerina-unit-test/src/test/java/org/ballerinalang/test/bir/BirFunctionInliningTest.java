@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRFunctionInliner;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test to confirm the functionality of the {@link BIRFunctionInliner}.
+ */
+public class BirFunctionInliningTest {
+
+    private static final String SOURCE_PATH = "test-src/bir/function_inlining.bal";
+
+    private BCompileUtil.BIRCompileResult birResult;
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        birResult = BCompileUtil.generateBIR(SOURCE_PATH);
+        compileResult = BCompileUtil.compile(SOURCE_PATH);
+    }
+
+    @Test(description = "Test that calls to small leaf functions are inlined")
+    public void testInlinedCalls() {
+        List<String> calledFunctions = getCalledFunctions("testInlinedCalls");
+        Assert.assertFalse(calledFunctions.contains("square"));
+        Assert.assertFalse(calledFunctions.contains("maxOf"));
+        Assert.assertFalse(calledFunctions.contains("fullName"));
+        Assert.assertFalse(calledFunctions.contains("reassignParam"));
+        BRunUtil.invoke(compileResult, "testInlinedCalls");
+    }
+
+    @Test(description = "Test that calls to functions that can panic are not inlined")
+    public void testNotInlinedCalls() {
+        Assert.assertTrue(getCalledFunctions("testNotInlinedCalls").contains("addInts"));
+        BRunUtil.invoke(compileResult, "testNotInlinedCalls");
+    }
+
+    private List<String> getCalledFunctions(String functionName) {
+        BIRNode.BIRFunction function = birResult.getExpectedBIR().functions.stream()
+                .filter(func -> func.getName().getValue().equals(functionName))
+                .findFirst()
+                .orElseThrow();
+        return function.basicBlocks.stream()
+                .filter(bb -> bb.terminator instanceof BIRTerminator.Call)
+                .map(bb -> ((BIRTerminator.Call) bb.terminator).name.getValue())
+                .collect(Collectors.toList());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        compileResult = null;
+    }
+}
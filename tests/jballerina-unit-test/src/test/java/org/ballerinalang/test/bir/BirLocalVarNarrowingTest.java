@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRLocalVarNarrower;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+/**
+ * Test to confirm the functionality of the {@link BIRLocalVarNarrower}.
+ */
+public class BirLocalVarNarrowingTest {
+
+    private static final String SOURCE_PATH = "test-src/bir/local_var_narrowing.bal";
+
+    private BCompileUtil.BIRCompileResult birResult;
+    private BCompileUtil.BIRCompileResult debugBirResult;
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        birResult = BCompileUtil.generateBIR(SOURCE_PATH);
+        // Inlining is disabled when the code is built to be debugged, e.g. by `bal run --debug`.
+        debugBirResult = BCompileUtil.generateBIR(SOURCE_PATH,
+                BuildOptions.builder().setDisableInlining(true).build());
+        compileResult = BCompileUtil.compile(SOURCE_PATH);
+    }
+
+    @Test(description = "Test that the locals that only hold values of a single primitive type are narrowed")
+    public void testNarrowedLocals() {
+        BIRNode.BIRFunction function = getFunction("testNarrowedLocals");
+        Assert.assertEquals(getLocalVarTypeTag(function, "total"), TypeTags.INT);
+        Assert.assertEquals(getLocalVarTypeTag(function, "product"), TypeTags.FLOAT);
+        Assert.assertEquals(getLocalVarTypeTag(function, "flag"), TypeTags.BOOLEAN);
+        Assert.assertEquals(getLocalVarTypeTag(function, "described"), TypeTags.INT);
+        BRunUtil.invoke(compileResult, "testNarrowedLocals");
+    }
+
+    @Test(description = "Test that the locals that hold other values or escape are not narrowed")
+    public void testNotNarrowedLocals() {
+        BIRNode.BIRFunction function = getFunction("testNotNarrowedLocals");
+        Assert.assertEquals(getLocalVarTypeTag(function, "mixed"), TypeTags.ANY);
+        Assert.assertEquals(getLocalVarTypeTag(function, "escaping"), TypeTags.ANY);
+        BRunUtil.invoke(compileResult, "testNotNarrowedLocals");
+    }
+
+    @Test(description = "Test that the declared locals keep their types when the code is built to be debugged")
+    public void testLocalsNotNarrowedForDebugging() {
+        BIRNode.BIRFunction function = getFunction(debugBirResult, "testNarrowedLocals");
+        Assert.assertEquals(getLocalVarTypeTag(function, "total"), TypeTags.ANY);
+        Assert.assertEquals(getLocalVarTypeTag(function, "product"), TypeTags.UNION);
+        Assert.assertEquals(getLocalVarTypeTag(function, "flag"), TypeTags.UNION);
+        Assert.assertEquals(getLocalVarTypeTag(function, "described"), TypeTags.ANYDATA);
+    }
+
+    private BIRNode.BIRFunction getFunction(String functionName) {
+        return getFunction(birResult, functionName);
+    }
+
+    private BIRNode.BIRFunction getFunction(BCompileUtil.BIRCompileResult birResult, String functionName) {
+        return birResult.getExpectedBIR().functions.stream()
+                .filter(func -> func.getName().getValue().equals(functionName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private int getLocalVarTypeTag(BIRNode.BIRFunction function, String varName) {
+        return function.localVars.stream()
+                .filter(var -> varName.equals(var.metaVarName))
+                .findFirst()
+                .orElseThrow()
+                .type.tag;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        debugBirResult = null;
+        compileResult = null;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.ballerinalang.test.jvm;
+
+import io.ballerina.projects.JarResolver;
+import io.ballerina.projects.Package;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the functions that are generated without saving and restoring their state, since they never yield.
+ */
+public class NonYieldingFunctionsTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/non-yielding-functions.bal");
+    }
+
+    @Test
+    public void testNonYieldingFunctions() {
+        Assert.assertFalse(hasFrameClass("fib"));
+        Assert.assertFalse(hasFrameClass("isEven"));
+        Assert.assertFalse(hasFrameClass("isOdd"));
+        BRunUtil.invoke(compileResult, "testNonYieldingFunctions");
+    }
+
+    @Test
+    public void testYieldingFunctions() {
+        Assert.assertTrue(hasFrameClass("incrementCounter"));
+        Assert.assertTrue(hasFrameClass("sumInWorker"));
+        BRunUtil.invoke(compileResult, "testYieldingFunctions");
+    }
+
+    private boolean hasFrameClass(String functionName) {
+        Package currentPackage = compileResult.project().currentPackage();
+        String frameClassName = JarResolver.getQualifiedClassName(currentPackage.packageOrg().toString(),
+                currentPackage.packageName().toString(), currentPackage.packageVersion().toString(),
+                functionName + "Frame");
+        try {
+            compileResult.getClassLoader().loadClass(frameClassName);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
@@ -23,6 +23,7 @@ import org.ballerinalang.test.CompileResult;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -59,6 +60,13 @@ public class FieldLockTest {
         assertTrue((returns2.toString().equals("1001000") || returns2.toString().equals("500500")));
     }
 
+    @Test(description = "Test locking the fields of an object created in a function")
+    public void testLockObjectFields() {
+
+        Object returns = BRunUtil.invoke(compileResult, "lockObjectFields");
+        assertEquals(returns, 2002L);
+    }
+
     @Test(description = "Test locking based on a record field")
     public void testLockInRecords() {
 
@@ -254,6 +254,12 @@ public class LocksInMainTest {
 
     }
 
+    @Test(description = "Tests an async call inside a lock and after the lock is released")
+    public void testAsyncCallInsideLock() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions.bal");
+        BRunUtil.invoke(compileResult, "asyncCallInsideLock");
+    }
+
     @Test(description = "Test lock negative cases")
     public void testLockNegativeCases() {
         CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions-negative.bal");
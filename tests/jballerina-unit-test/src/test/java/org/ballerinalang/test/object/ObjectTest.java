@@ -213,6 +213,12 @@ public class ObjectTest {
         Assert.assertEquals(returns.toString(), "sample name");
     }
 
+    @Test(description = "Test calling the methods of values of different classes through the same class type")
+    public void testCallMethodsOfDifferentClassValues() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/object/object-call-attached-functions.bal");
+        BRunUtil.invoke(compileResult, "testCallMethodsOfDifferentClassValues");
+    }
+
     @Test(description = "Test object inside object with different values")
     public void testObjectInsideObject() {
         CompileResult compileResult = BCompileUtil.compile("test-src/object/object-self-keyword-pass-values.bal");
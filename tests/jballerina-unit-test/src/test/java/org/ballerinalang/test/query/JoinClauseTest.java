@@ -115,6 +115,12 @@ public class JoinClauseTest {
         Assert.assertTrue((Boolean) values);
     }
 
+    @Test(description = "Test join clauses that compare the keys by value")
+    public void testJoinClauseWithStructuredAndDecimalKeys() {
+        Object values = BRunUtil.invoke(result, "testJoinClauseWithStructuredAndDecimalKeys");
+        Assert.assertTrue((Boolean) values);
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.test.query;
 
+import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
@@ -86,6 +87,41 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals((person1.get(StringUtils.fromString("score"))), 90.6);
     }
 
+    @Test(description = "Test where clauses on table fields that are looked up using secondary indexes")
+    public void testWhereClauseOnIndexedTableFields() {
+        BRunUtil.invoke(result, "testWhereClauseOnIndexedTableFields");
+    }
+
+    @Test(description = "Test where clauses on indexed table fields that are updated by the query")
+    public void testWhereClauseOnIndexedTableFieldsUpdatedByQuery() {
+        BRunUtil.invoke(result, "testWhereClauseOnIndexedTableFieldsUpdatedByQuery");
+    }
+
+    @Test(description = "Test where clauses interleaved with let clauses and a where clause that fails")
+    public void testInterleavedLetAndWhereClauses() {
+        BRunUtil.invoke(result, "testInterleavedLetAndWhereClauses");
+    }
+
+    @Test(description = "Test the values selected for each member of an array by queries ending in each clause")
+    public void testValuesSelectedForEachArrayMember() {
+        BRunUtil.invoke(result, "testValuesSelectedForEachArrayMember");
+    }
+
+    @Test(description = "Test isolated queries over arrays large enough to be evaluated in chunks")
+    public void testIsolatedQueryOverLargeArray() {
+        BRunUtil.invoke(result, "testIsolatedQueryOverLargeArray");
+    }
+
+    @Test(description = "Test isolated queries evaluated in chunks giving the same results as sequential queries")
+    public void testChunkedQueryMatchingSequentialQuery() {
+        System.setProperty(RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY, "4");
+        try {
+            BRunUtil.invoke(result, "testChunkedQueryMatchingSequentialQuery");
+        } finally {
+            System.clearProperty(RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY);
+        }
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
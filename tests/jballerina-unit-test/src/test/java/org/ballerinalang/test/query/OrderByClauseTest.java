@@ -231,6 +231,18 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test query expr with order by and limit clauses with equal and nil order-keys")
+    public void testQueryExprWithOrderByAndLimitHavingTiesAndNilValues() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitHavingTiesAndNilValues");
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
+    @Test(description = "Test query expr with order by and limit clauses evaluating the limit once")
+    public void testQueryExprWithOrderByAndLimitEvaluatingLimitOnce() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitEvaluatingLimitOnce");
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
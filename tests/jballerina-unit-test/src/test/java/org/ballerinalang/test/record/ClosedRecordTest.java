@@ -322,6 +322,11 @@ public class ClosedRecordTest {
         BRunUtil.invoke(compileResult, "removeIfHasKeyRest");
     }
 
+    @Test
+    public void testFieldAccessOfDifferentRecordValues() {
+        BRunUtil.invoke(compileResult, "testFieldAccessOfDifferentRecordValues");
+    }
+
     @Test
     public void testCyclicRecordViaFields() {
         CompileResult cyclicBal = BCompileUtil.compile("test-src/record/cyclic_record_via_fields.bal");
@@ -75,6 +75,11 @@ public class StringValueBasicsTest extends BStringTestCommons {
         BRunUtil.invoke(result, "testStringIndexAccessException");
     }
 
+    @Test
+    public void testLongConcatenation() {
+        BRunUtil.invoke(result, "testLongConcatenation");
+    }
+
     @Test
     public void testCastToString() {
         testAndAssert("anyToStringCasting", 6);
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.types.table;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Class to test adding, removing and iterating the rows of a table as its storage grows and compacts.
+ *
+ * @since 2201.2.0
+ */
+public class TableRowStorageTest {
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/types/table/table_row_storage_test.bal");
+    }
+
+    @Test(dataProvider = "dataToTestTableRowStorage", description = "Test table row storage")
+    public void testTableRowStorage(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @DataProvider
+    public Object[] dataToTestTableRowStorage() {
+        return new Object[]{
+                "testAddRemoveReAddAcrossResize",
+                "testRemoveAllAndReAdd",
+                "testNilKeyAddedWhenKeyIndexGrows",
+                "testDecimalKeys",
+                "testRecordKeys",
+                "testMultiFieldKeys",
+                "testIterationOrderAfterRemoval"
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function square(float x) returns float {
+    return x * x;
+}
+
+function maxOf(float a, float b) returns float {
+    if a > b {
+        return a;
+    }
+    return b;
+}
+
+function fullName(string firstName, string lastName) returns string {
+    return firstName + " " + lastName;
+}
+
+function reassignParam(float x) returns float {
+    x = x * 2.0;
+    return x;
+}
+
+function addInts(int a, int b) returns int {
+    // Integer addition can overflow, so this function is not inlined to keep the stack trace of the panic.
+    return a + b;
+}
+
+function testInlinedCalls() {
+    float x = 3.0;
+    float y = square(x) + square(2.0);
+    assertEquality(13.0, y);
+    assertEquality(3.0, x);
+    assertEquality(13.0, maxOf(y, x));
+    assertEquality(3.0, maxOf(-1.0, maxOf(x, 2.5)));
+    assertEquality("John Doe", fullName("John", "Doe"));
+
+    float z = reassignParam(x);
+    assertEquality(6.0, z);
+    assertEquality(3.0, x);
+
+    float sum = 0.0;
+    foreach int i in 0 ..< 10 {
+        sum += square(<float>i);
+    }
+    assertEquality(285.0, sum);
+}
+
+function testNotInlinedCalls() {
+    assertEquality(5, addInts(2, 3));
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("AssertionError", message = "expected '" + expected.toString() + "', found '" + actual.toString()
+                + "'");
+}
@@ -0,0 +1,65 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+function testNarrowedLocals() {
+    any total = 0;
+    foreach int i in 0 ..< 10 {
+        total = <int>total + i;
+    }
+    int intResult = <int>total;
+    assertEquality(45, intResult);
+
+    int|float product = 1.5;
+    foreach int i in 0 ..< 3 {
+        product = <float>product * 2.0;
+    }
+    float floatResult = <float>product;
+    assertEquality(12.0, floatResult);
+
+    boolean|string flag = true;
+    if <boolean>flag {
+        flag = false;
+    }
+    boolean booleanResult = <boolean>flag;
+    assertEquality(false, booleanResult);
+
+    anydata described = 10;
+    typedesc<anydata> describedType = typeof described;
+    assertEquality(true, describedType is typedesc<int>);
+}
+
+function testNotNarrowedLocals() {
+    any mixed = 1;
+    mixed = "one";
+    string stringResult = <string>mixed;
+    assertEquality("one", stringResult);
+
+    any escaping = 2;
+    assertEquality(2, <int>identity(escaping));
+}
+
+function identity(any value) returns any {
+    return value;
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("AssertionError", message = "expected '" + expected.toString() + "', found '" + actual.toString()
+                + "'");
+}
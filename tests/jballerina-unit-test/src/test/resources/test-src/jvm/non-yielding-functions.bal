@@ -0,0 +1,73 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function fib(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function isEven(int n) returns boolean {
+    if n == 0 {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if n == 0 {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+int counter = 0;
+
+function incrementCounter(int n) {
+    lock {
+        counter += fib(n);
+    }
+}
+
+function sumInWorker(int n) returns int {
+    worker w1 returns int {
+        return fib(n);
+    }
+    int result = fib(n);
+    return result + wait w1;
+}
+
+function testNonYieldingFunctions() {
+    assertEquality(55, fib(10));
+    assertEquality(true, isEven(10));
+    assertEquality(true, isOdd(7));
+}
+
+function testYieldingFunctions() {
+    incrementCounter(10);
+    incrementCounter(5);
+    assertEquality(60, counter);
+    assertEquality(1220, sumInWorker(15));
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("AssertionError", message = "expected '" + expected.toString() + "', found '" + actual.toString()
+                + "'");
+}
@@ -361,3 +361,37 @@ function nextInsideLock() returns [int, string] {
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Utils"
 } external;
+
+int asyncCallLockCounter = 0;
+
+function asyncCallInsideLock() {
+    error? result = trap incrementAndStartInsideLock();
+    if result is () {
+        panic error("expected an error for the async call inside the lock");
+    }
+    if result.message() != "{ballerina}AsyncCallInsideLockError" {
+        panic error("unexpected error: " + result.message());
+    }
+
+    // The lock is released by the panic, so async calls can be made again.
+    int squared = startSquare(asyncCallLockCounter + 1);
+    if squared != 4 {
+        panic error("expected 4, found " + squared.toString());
+    }
+}
+
+function incrementAndStartInsideLock() {
+    lock {
+        asyncCallLockCounter += 1;
+        _ = startSquare(asyncCallLockCounter);
+    }
+}
+
+function startSquare(int value) returns int {
+    future<int> f = start square(value);
+    return checkpanic wait f;
+}
+
+function square(int value) returns int {
+    return value * value;
+}
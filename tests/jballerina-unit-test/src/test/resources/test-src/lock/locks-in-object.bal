@@ -94,6 +94,45 @@ function incrementParam(Student param, person p) {
     }
 }
 
+//------------------------------------------------
+// Test locking the fields of an object created in a function
+class Counter {
+    int count = 0;
+
+    function increment(int times) {
+        foreach int i in 0 ..< times {
+            lock {
+                self.count += 1;
+            }
+        }
+    }
+
+    function incrementAndDouble() returns int {
+        int doubled = 0;
+        lock {
+            self.count += 1;
+            // The locks of object fields are not in the lock store of the module, so async calls are allowed.
+            future<int> result = start doubleValue(self.count);
+            doubled = checkpanic wait result;
+        }
+        return doubled;
+    }
+}
+
+function lockObjectFields() returns int {
+    Counter counter = new;
+    worker w1 {
+        counter.increment(500);
+    }
+    counter.increment(500);
+    wait w1;
+    return counter.incrementAndDouble();
+}
+
+function doubleValue(int value) returns int {
+    return value * 2;
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Utils"
 } external;
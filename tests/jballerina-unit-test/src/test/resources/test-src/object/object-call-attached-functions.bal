@@ -34,3 +34,78 @@ class Person {
         return self.getName();
     }
 }
+
+class Counter {
+    public int count = 0;
+
+    public function increment(int by = 1) returns int {
+        self.count += by;
+        return self.count;
+    }
+
+    public function scale(float factor, int? offset = ()) returns float {
+        return <float>self.count * factor + <float>(offset ?: 0);
+    }
+
+    public function describe(string prefix) returns string|int {
+        return prefix + self.count.toString();
+    }
+
+    public function reset() {
+        self.count = 0;
+    }
+}
+
+class DoublingCounter {
+    public int count = 0;
+
+    public function increment(int by = 1) returns int {
+        self.count += 2 * by;
+        return self.count;
+    }
+
+    public function scale(float factor, int? offset = ()) returns float {
+        return <float>self.count * factor * 2.0;
+    }
+
+    public function describe(string prefix) returns string|int {
+        return self.count;
+    }
+
+    public function reset() {
+        self.count = 100;
+    }
+}
+
+public function testCallMethodsOfDifferentClassValues() {
+    Counter counter = new;
+    assertEquality(1, counter.increment());
+    assertEquality(4, counter.increment(3));
+    assertEquality(8.0, counter.scale(2.0));
+    assertEquality(9.0, counter.scale(2.0, 1));
+    assertEquality("count: 4", counter.describe("count: "));
+    counter.reset();
+    assertEquality(0, counter.count);
+
+    Counter doublingCounter = new DoublingCounter();
+    assertEquality(2, doublingCounter.increment());
+    assertEquality(8, doublingCounter.increment(3));
+    assertEquality(32.0, doublingCounter.scale(2.0, 1));
+    assertEquality(8, doublingCounter.describe("count: "));
+    doublingCounter.reset();
+    assertEquality(100, doublingCounter.count);
+}
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error("AssertionError", message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
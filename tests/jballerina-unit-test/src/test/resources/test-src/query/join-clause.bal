@@ -455,3 +455,49 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type Price record {|
+    string item;
+    decimal amount;
+|};
+
+type Discount record {|
+    decimal amount;
+    [string, int] code;
+    int percentage;
+|};
+
+function testJoinClauseWithStructuredAndDecimalKeys() returns boolean {
+    Price[] prices = [{item: "pen", amount: 1.0}, {item: "book", amount: 12.50}, {item: "bag", amount: 30}];
+    Discount[] discounts = [
+        {amount: 1.00, code: ["A", 1], percentage: 5},
+        {amount: 12.5, code: ["B", 2], percentage: 10},
+        {amount: 1, code: ["A", 1], percentage: 15}
+    ];
+
+    int[] percentages = from var price in prices
+                        join var discount in discounts
+                        on price.amount equals discount.amount
+                        select discount.percentage;
+    boolean testPassed = percentages == [5, 15, 10];
+
+    int?[] outerPercentages = from var price in prices
+                              outer join var discount in discounts
+                              on price.amount equals discount.amount
+                              select discount.percentage;
+    testPassed = testPassed && outerPercentages == [5, 15, 10, ()];
+
+    [string, int][] codes = [["A", 1], ["C", 3]];
+    int[] codePercentages = from var code in codes
+                            join var discount in discounts
+                            on code equals discount.code
+                            select discount.percentage;
+    testPassed = testPassed && codePercentages == [5, 15];
+
+    record {|string name;|}[] keys = [{name: "pen"}, {name: "bag"}];
+    string[] items = from var k in keys
+                     join var price in prices
+                     on k equals {name: price.item}
+                     select price.item;
+    return testPassed && items == ["pen", "bag"];
+}
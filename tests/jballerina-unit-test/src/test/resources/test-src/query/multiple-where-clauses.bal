@@ -100,3 +100,299 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    int grade;
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+const ENGINEERING = "Engineering";
+
+function testWhereClauseOnIndexedTableFields() {
+    EmployeeTable employees = table [];
+    foreach int i in 0 ..< 100 {
+        employees.add({id: i, dept: i % 2 == 0 ? ENGINEERING : "Sales", grade: i % 5});
+    }
+
+    int[] ids = from var e in employees where e.id == 42 select e.id;
+    assertEquality([42], ids);
+
+    ids = from var e in employees where 95 < e.id select e.id;
+    assertEquality([96, 97, 98, 99], ids);
+
+    final int upper = 3;
+    ids = from var e in employees where e.id <= upper select e.id;
+    assertEquality([0, 1, 2, 3], ids);
+
+    ids = from var e in employees where e.dept == ENGINEERING && e.id >= 90 select e.id;
+    assertEquality([90, 92, 94, 96, 98], ids);
+
+    // Non readonly fields are not indexed.
+    ids = from var e in employees where e.grade == 4 && e.id < 20 select e.id;
+    assertEquality([4, 9, 14, 19], ids);
+
+    // Indexes are kept up to date when the table is updated.
+    _ = employees.remove(96);
+    employees.put({id: 98, dept: "Sales", grade: 0});
+    employees.add({id: 100, dept: ENGINEERING, grade: 0});
+    ids = from var e in employees where e.dept == ENGINEERING && e.id >= 90 select e.id;
+    assertEquality([90, 92, 94, 100], ids);
+
+    ids = from var e in employees where e.id > 95 select e.id;
+    assertEquality([97, 98, 99, 100], ids);
+
+    final string dept = "Marketing";
+    ids = from var e in employees where e.dept == dept select e.id;
+    assertEquality([], ids);
+}
+
+function testWhereClauseOnIndexedTableFieldsUpdatedByQuery() {
+    EmployeeTable employees = table [];
+    foreach int i in 0 ..< 100 {
+        employees.add({id: i, dept: ENGINEERING, grade: 0});
+    }
+
+    // The where clause is evaluated for each row when the compared variable changes during the query.
+    int threshold = 94;
+    int[] ids = [];
+    from var e in employees
+        where e.id > threshold
+        do {
+            ids.push(e.id);
+            threshold = e.id + 1;
+        };
+    assertEquality([95, 97, 99], ids);
+
+    // The rows of a stream are not looked up before the stream is consumed.
+    stream<Employee> lastEmployees = stream from var e in employees where e.id >= 98 select e;
+    ids = from var e in lastEmployees select e.id;
+    assertEquality([98, 99], ids);
+
+    // Removing the rows that have already been iterated is allowed, as with the table iterator.
+    from var e in employees
+        where e.id >= 95
+        do {
+            _ = employees.remove(e.id);
+        };
+    assertEquality(95, employees.length());
+
+    // Replaced rows are looked up again.
+    ids = [];
+    from var e in employees
+        where e.dept == ENGINEERING && e.id >= 90
+        do {
+            ids.push(e.id);
+            if e.id == 90 {
+                employees.put({id: 92, dept: "Sales", grade: 0});
+                employees.put({id: 91, dept: ENGINEERING, grade: 1});
+            }
+        };
+    assertEquality([90, 91, 93, 94], ids);
+
+    error? addResult = trap addRowsWhileQuerying(employees);
+    assertEquality(true, addResult is error);
+    if addResult is error {
+        assertEquality("{ballerina}IteratorMutabilityError", addResult.message());
+        assertEquality("Table was mutated after the iterator was created", addResult.detail()["message"]);
+    }
+
+    error? removeResult = trap removeRowsWhileQuerying(employees);
+    assertEquality(true, removeResult is error);
+    if removeResult is error {
+        assertEquality("{ballerina}IteratorMutabilityError", removeResult.message());
+    }
+}
+
+function addRowsWhileQuerying(EmployeeTable employees) {
+    from var e in employees
+        where e.id > 80
+        do {
+            employees.add({id: e.id + 1000, dept: ENGINEERING, grade: 0});
+        };
+}
+
+function removeRowsWhileQuerying(EmployeeTable employees) {
+    from var e in employees
+        where e.id > 80
+        do {
+            _ = employees.remove(e.id + 1);
+        };
+}
+
+function testInterleavedLetAndWhereClauses() {
+    int[] numbers = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+    int[] result = from int n in numbers
+                   where n % 2 == 0
+                   let int square = n * n
+                   where square > 10
+                   let int cube = square * n
+                   where cube < 800
+                   select cube;
+    assertEquality([64, 216, 512], result);
+
+    int[]|error failed = from int n in numbers
+                         where n > 2
+                         where check checkSmallerThan(n, 5)
+                         select n;
+    assertEquality(true, failed is error);
+    if failed is error {
+        assertEquality("too large: 5", failed.message());
+    }
+
+    // Members added while the query runs are not iterated.
+    int count = 0;
+    from int n in numbers
+        where n > 8
+        do {
+            numbers.push(n);
+            count += 1;
+        };
+    assertEquality(2, count);
+    assertEquality(12, numbers.length());
+}
+
+isolated function checkSmallerThan(int n, int max) returns boolean|error {
+    if n >= max {
+        return error("too large: " + n.toString());
+    }
+    return true;
+}
+
+function testValuesSelectedForEachArrayMember() {
+    int[] numbers = [1, 2, 3, 4, 5];
+    record {| int n; int square; |}[] records = from int n in numbers
+                                                let int square = n * n
+                                                select {n, square};
+    assertEquality([{n: 1, square: 1}, {n: 2, square: 4}, {n: 3, square: 9}, {n: 4, square: 16},
+                    {n: 5, square: 25}], records);
+
+    // Closures capture the variables of the member they are created for.
+    (function () returns int)[] funcs = from int n in numbers
+                                        let int square = n * n
+                                        where n > 2
+                                        select function() returns int => square;
+    int[] squares = from var func in funcs
+                    select func();
+    assertEquality([9, 16, 25], squares);
+
+    int[] limited = from int n in numbers
+                    let int doubled = n * 2
+                    limit 3
+                    select doubled;
+    assertEquality([2, 4, 6], limited);
+
+    int[] collected = [];
+    from int n in numbers
+        let int doubled = n * 2
+        where doubled > 4
+        do {
+            collected.push(doubled);
+        };
+    assertEquality([6, 8, 10], collected);
+
+    // Both streams read the same array while they are consumed in turns.
+    stream<int> first = stream from int n in numbers
+                        select n;
+    stream<int> second = stream from int n in numbers
+                         select n * 10;
+    int[] interleaved = [];
+    foreach int i in 0 ..< 3 {
+        record {| int value; |}? value = first.next();
+        if value is record {| int value; |} {
+            interleaved.push(value.value);
+        }
+        value = second.next();
+        if value is record {| int value; |} {
+            interleaved.push(value.value);
+        }
+    }
+    assertEquality([1, 10, 2, 20, 3, 30], interleaved);
+}
+
+isolated function testIsolatedQueryOverLargeArray() {
+    int[] numbers = from int i in 0 ..< 5000 select i;
+    int[] squares = from int n in numbers
+                    where n % 3 == 0
+                    let int square = n * n
+                    select square;
+    assertEquality(1667, squares.length());
+    assertEquality(0, squares[0]);
+    assertEquality(9, squares[1]);
+    assertEquality(4998 * 4998, squares[1666]);
+
+    int[]|error failed = from int n in numbers
+                         where check checkSmallerThan(n, 4000)
+                         select n;
+    assertEquality(true, failed is error);
+}
+
+int sequentialOffset = 0;
+
+// Run with the query parallelism set above 1. The queries of `evaluateInChunks` are isolated and are evaluated in
+// chunks, while the same queries below read a mutable module variable and are evaluated sequentially.
+function testChunkedQueryMatchingSequentialQuery() {
+    int[] numbers = from int i in 0 ..< 5000 select i;
+    [int[], int[], int[]|error] [squares, limited, failed] = evaluateInChunks(numbers);
+
+    int[] sequentialSquares = from int n in numbers
+                              where n % 3 == sequentialOffset
+                              let int square = n * n
+                              select square;
+    assertEquality(sequentialSquares, squares);
+
+    int[] sequentialLimited = from int n in numbers
+                              where n % 7 == sequentialOffset
+                              limit 100
+                              select n;
+    assertEquality(sequentialLimited, limited);
+
+    int[]|error sequentialFailed = from int n in numbers
+                                   where check checkNotLargeThousand(n + sequentialOffset)
+                                   select n;
+    assertEquality(true, failed is error);
+    assertEquality(true, sequentialFailed is error);
+    if failed is error && sequentialFailed is error {
+        // The members 2000, 3000 and 4000 fail in different chunks, and the first of them is reported.
+        assertEquality("too large: 2000", sequentialFailed.message());
+        assertEquality(sequentialFailed.message(), failed.message());
+    }
+}
+
+isolated function evaluateInChunks(int[] numbers) returns [int[], int[], int[]|error] {
+    int[] squares = from int n in numbers
+                    where n % 3 == 0
+                    let int square = n * n
+                    select square;
+    int[] limited = from int n in numbers
+                    where n % 7 == 0
+                    limit 100
+                    select n;
+    int[]|error failed = from int n in numbers
+                         where check checkNotLargeThousand(n)
+                         select n;
+    return [squares, limited, failed];
+}
+
+isolated function checkNotLargeThousand(int n) returns boolean|error {
+    if n > 1000 && n % 1000 == 0 {
+        return error("too large: " + n.toString());
+    }
+    return true;
+}
+
+isolated function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error("expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
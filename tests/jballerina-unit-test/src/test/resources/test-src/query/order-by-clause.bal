@@ -502,3 +502,55 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+function testQueryExprWithOrderByAndLimitHavingTiesAndNilValues() returns boolean {
+    [string, int?][] scores = [["a", 3], ["b", ()], ["c", 5], ["d", 3], ["e", 1], ["f", 5], ["g", ()], ["h", 3]];
+
+    string[] highest = from var [name, score] in scores
+                       order by score descending
+                       limit 4
+                       select name;
+    boolean testPassed = highest == ["c", "f", "a", "d"];
+
+    string[] lowest = from var [name, score] in scores
+                      order by score ascending
+                      limit 3
+                      select name;
+    testPassed = testPassed && lowest == ["e", "a", "d"];
+
+    string[] withNil = from var [name, score] in scores
+                       order by score descending, name descending
+                       limit 20
+                       select name;
+    testPassed = testPassed && withNil == ["f", "c", "h", "d", "a", "e", "g", "b"];
+
+    string[] byTuple = from var [name, score] in scores
+                       where score is int
+                       order by [score, name] descending
+                       limit 2
+                       select name;
+    return testPassed && byTuple == ["f", "c"];
+}
+
+int limitEvaluationCount = 0;
+
+function getLimit() returns int {
+    limitEvaluationCount += 1;
+    return 2;
+}
+
+function testQueryExprWithOrderByAndLimitEvaluatingLimitOnce() returns boolean {
+    int[] values = [4, 1, 5, 3, 2];
+    int[] smallest = from int v in values
+                     order by v
+                     limit getLimit()
+                     select v;
+    boolean testPassed = smallest == [1, 2] && limitEvaluationCount == 1;
+
+    stream<int> largest = stream from int v in values
+                          order by v descending
+                          limit getLimit()
+                          select v;
+    int[] largestValues = from int v in largest select v;
+    return testPassed && largestValues == [5, 4] && limitEvaluationCount == 2;
+}
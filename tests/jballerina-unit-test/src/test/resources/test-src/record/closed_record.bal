@@ -380,3 +380,59 @@ function removeIfHasKeyRest() {
          panic error("Returned value should be nil.");
     }
 }
+
+type Measurement record {|
+    int count;
+    float total;
+    string label;
+    int? max?;
+    string unit?;
+|};
+
+type PositiveMeasurement record {|
+    int count;
+    float total;
+    string label;
+    int max?;
+    string unit?;
+|};
+
+function testFieldAccessOfDifferentRecordValues() {
+    Measurement m = {count: 1, total: 1.5, label: "first"};
+    updateMeasurement(m, 4);
+    assertMeasurement(m, 5, 5.5, "first-4", 4, "ms");
+
+    // A value of another record type that belongs to the record type.
+    PositiveMeasurement pm = {count: 2, total: 0.5, label: "second", unit: "s"};
+    Measurement m2 = pm;
+    if m2?.max !is () || m2?.unit != "s" {
+        panic error("unexpected optional fields: " + m2.toString());
+    }
+    updateMeasurement(m2, 7);
+    assertMeasurement(m2, 9, 7.5, "second-7", 7, "ms");
+    if pm.count != 9 || pm?.max != 7 {
+        panic error("unexpected field values: " + pm.toString());
+    }
+
+    Measurement & readonly frozen = {count: 3, total: 1.0, label: "third"};
+    Measurement m3 = frozen;
+    error? result = trap updateMeasurement(m3, 1);
+    if result is () {
+        panic error("expected an error for updating a readonly record");
+    }
+    assertMeasurement(m3, 3, 1.0, "third", (), ());
+}
+
+function updateMeasurement(Measurement m, int value) {
+    m.count += value;
+    m.total = m.total + <float>value;
+    m.label = m.label + "-" + value.toString();
+    m.max = value;
+    m.unit = "ms";
+}
+
+function assertMeasurement(Measurement m, int count, float total, string label, int? max, string? unit) {
+    if m.count != count || m.total != total || m.label != label || m?.max != max || m?.unit != unit {
+        panic error("unexpected measurement: " + m.toString());
+    }
+}
@@ -86,6 +86,43 @@ function anydataToStringCast() returns int {
     return k.length();
 }
 
+function testLongConcatenation() {
+    string s = "";
+    foreach int i in 0 ..< 100 {
+        s = s + "h😀llo";
+    }
+    assert(s.length(), 500);
+    assert(s.codePointAt(451), 128512);
+    assert(s.substring(449, 452), "oh😀");
+    assert(s.indexOf("llo", 496), 497);
+    assert(s.lastIndexOf("h"), 495);
+
+    // Concatenating to the same string more than once must not change the previous results.
+    string base = s;
+    string s1 = base + "a😀";
+    string s2 = base + "bc";
+    string s3 = s1 + "d";
+    assert(s1.length(), 502);
+    assert(s2.length(), 502);
+    assert(s1.substring(499), "oa😀");
+    assert(s2.substring(499), "obc");
+    assert(s3.substring(499), "oa😀d");
+    assert(base.length(), 500);
+    assert(base == s, true);
+
+    string prefix = "h😀llo" + s.substring(5);
+    assert(prefix == s, true);
+    map<int> m = {};
+    m[s] = 1;
+    assert(m[prefix], 1);
+
+    string joined = "";
+    foreach string:Char c in s2 {
+        joined += c;
+    }
+    assert(joined, s2);
+}
+
 function assert(anydata actual, anydata expected) {
     if (expected == actual) {
         return;
@@ -0,0 +1,213 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type IntRow record {
+    readonly int k;
+    int value;
+};
+
+type NilableRow record {
+    readonly int? k;
+    int value;
+};
+
+type DecimalRow record {
+    readonly decimal k;
+    string value;
+};
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+type RecordKeyRow record {
+    readonly Point k;
+    string value;
+};
+
+type MultiKeyRow record {
+    readonly string name;
+    readonly int id;
+    int value;
+};
+
+function testAddRemoveReAddAcrossResize() {
+    table<IntRow> key(k) tbl = table [];
+    foreach int i in 0 ..< 100 {
+        tbl.add({k: i, value: i});
+    }
+    assertEqual(100, tbl.length());
+
+    foreach int i in 0 ..< 100 {
+        if i % 2 == 0 {
+            IntRow removed = tbl.remove(i);
+            assertEqual(i, removed.value);
+        }
+    }
+    assertEqual(50, tbl.length());
+    foreach int i in 0 ..< 100 {
+        assertEqual(i % 2 != 0, tbl.hasKey(i));
+    }
+
+    foreach int i in 0 ..< 100 {
+        if i % 2 == 0 {
+            tbl.add({k: i, value: i * 10});
+        }
+    }
+    assertEqual(100, tbl.length());
+    foreach int i in 0 ..< 100 {
+        assertEqual(i % 2 == 0 ? i * 10 : i, tbl.get(i).value);
+    }
+
+    error? err = trap tbl.add({k: 42, value: 0});
+    assertEqual(true, err is error);
+}
+
+function testRemoveAllAndReAdd() {
+    table<IntRow> key(k) tbl = table [];
+    foreach int i in 0 ..< 20 {
+        tbl.add({k: i, value: i});
+    }
+    tbl.removeAll();
+    assertEqual(0, tbl.length());
+    assertEqual(false, tbl.hasKey(0));
+
+    foreach int i in 0 ..< 20 {
+        tbl.add({k: i, value: i + 1});
+    }
+    assertEqual(20, tbl.length());
+    assertEqual(20, tbl.get(19).value);
+}
+
+function testNilKeyAddedWhenKeyIndexGrows() {
+    table<NilableRow> key(k) tbl = table [];
+    foreach int i in 0 ..< 8 {
+        tbl.add({k: i, value: i});
+    }
+    // The ninth key grows the key index.
+    tbl.add({k: (), value: -1});
+    assertEqual(9, tbl.length());
+    assertEqual(true, tbl.hasKey(()));
+    assertEqual(-1, tbl.get(()).value);
+
+    NilableRow removed = tbl.remove(());
+    assertEqual(-1, removed.value);
+    assertEqual(8, tbl.length());
+    assertEqual(false, tbl.hasKey(()));
+
+    NilableRow|error result = trap tbl.remove(());
+    assertEqual(true, result is error);
+    assertEqual(8, tbl.length());
+
+    tbl.add({k: (), value: -2});
+    assertEqual(9, tbl.length());
+    assertEqual(-2, tbl.get(()).value);
+    foreach int i in 0 ..< 8 {
+        assertEqual(i, tbl.get(i).value);
+    }
+}
+
+function testDecimalKeys() {
+    table<DecimalRow> key(k) tbl = table [];
+    tbl.add({k: 1.0d, value: "one"});
+    tbl.add({k: 2.5d, value: "two and a half"});
+
+    assertEqual(true, tbl.hasKey(1.00d));
+    assertEqual("one", tbl.get(1.000d).value);
+
+    error? err = trap tbl.add({k: 1.00d, value: "duplicate"});
+    assertEqual(true, err is error);
+
+    tbl.put({k: 1.00d, value: "replaced"});
+    assertEqual(2, tbl.length());
+    assertEqual("replaced", tbl.get(1.0d).value);
+
+    DecimalRow removed = tbl.remove(2.50d);
+    assertEqual("two and a half", removed.value);
+    assertEqual(false, tbl.hasKey(2.5d));
+    assertEqual(1, tbl.length());
+}
+
+function testRecordKeys() {
+    table<RecordKeyRow> key(k) tbl = table [];
+    foreach int i in 0 ..< 20 {
+        tbl.add({k: {x: i, y: -i}, value: i.toString()});
+    }
+    assertEqual("7", tbl.get({x: 7, y: -7}).value);
+    assertEqual(false, tbl.hasKey({x: 7, y: 7}));
+
+    _ = tbl.remove({x: 7, y: -7});
+    assertEqual(false, tbl.hasKey({x: 7, y: -7}));
+    tbl.add({k: {x: 7, y: -7}, value: "seven"});
+    assertEqual("seven", tbl.get({x: 7, y: -7}).value);
+    assertEqual(20, tbl.length());
+}
+
+function testMultiFieldKeys() {
+    table<MultiKeyRow> key(name, id) tbl = table [];
+    foreach int i in 0 ..< 20 {
+        tbl.add({name: "a", id: i, value: i});
+        tbl.add({name: "b", id: i, value: -i});
+    }
+    assertEqual(40, tbl.length());
+    assertEqual(-5, tbl.get(["b", 5]).value);
+
+    MultiKeyRow removed = tbl.remove(["a", 5]);
+    assertEqual(5, removed.value);
+    assertEqual(false, tbl.hasKey(["a", 5]));
+    assertEqual(true, tbl.hasKey(["b", 5]));
+
+    tbl.add({name: "a", id: 5, value: 50});
+    assertEqual(50, tbl.get(["a", 5]).value);
+    assertEqual(40, tbl.length());
+}
+
+function testIterationOrderAfterRemoval() {
+    table<IntRow> key(k) tbl = table [];
+    foreach int i in 0 ..< 16 {
+        tbl.add({k: i, value: i});
+    }
+    // Removing most of the rows lets the next additions compact the storage.
+    foreach int i in 0 ..< 12 {
+        _ = tbl.remove(i);
+    }
+    foreach int i in 16 ..< 40 {
+        tbl.add({k: i, value: i});
+    }
+
+    int[] keys = [];
+    foreach IntRow row in tbl {
+        keys.push(row.k);
+    }
+    int[] expected = [];
+    foreach int i in 12 ..< 40 {
+        expected.push(i);
+    }
+    assertEqual(expected, keys);
+    assertEqual(expected, tbl.keys());
+
+    _ = tbl.remove(20);
+    tbl.add({k: 20, value: 20});
+    assertEqual(20, tbl.toArray()[tbl.length() - 1].k);
+}
+
+function assertEqual(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error(string `Assertion error: expected ${expected.toString()} found ${actual.toString()}`);
+}